@@ -0,0 +1,83 @@
+package core;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import vertexCover.benchmark.GraphSource;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and changing a {@link Graph}: every benchmark works on the whole graph, so the time per operation is the
+ * score divided by the number of vertices or edges.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphBenchmark {
+    @Param({"out.dolphins", "inf-USAir97.mtx", "inf-power.mtx", "bio-dmela.mtx", "random-20000-60000",
+            "grid-100x100", "powerlaw-20000-3"})
+    public String graph;
+
+    private Graph g;
+    private int[][] edges;
+    private int[] vertices;
+    private int safePoint;
+
+    @Setup
+    public void setup() throws IOException {
+        g = GraphSource.load(graph);
+        edges = GraphSource.edges(g);
+        vertices = g.getVertices().stream().mapToInt(Integer::intValue).toArray();
+        safePoint = g.getSafePoint();
+    }
+
+    @Benchmark
+    public Graph construct() {
+        Graph built = new Graph();
+        for (int[] edge : edges) {
+            built.addEdge(edge[0], edge[1]);
+        }
+        return built;
+    }
+
+    @Benchmark
+    public Graph copy() {
+        return g.copy();
+    }
+
+    /**
+     * Deletes every vertex and takes the graph back with one restore, like a path of the search tree
+     */
+    @Benchmark
+    public int deleteAndRestore() {
+        for (int v : vertices) {
+            g.deleteVertex(v);
+        }
+        int size = g.size();
+        g.restore(safePoint);
+        return size;
+    }
+
+    @Benchmark
+    public void getNeighbours(Blackhole bh) {
+        for (int v : vertices) {
+            bh.consume(g.getNeighbours(v));
+        }
+    }
+
+    @Benchmark
+    public void forEachNeighbour(Blackhole bh) {
+        for (int v : vertices) {
+            g.forEachNeighbour(v, bh::consume);
+        }
+    }
+
+    @Benchmark
+    public Object getDisjointGraphs() {
+        return g.getDisjointGraphs();
+    }
+}
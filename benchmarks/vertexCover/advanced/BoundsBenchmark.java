@@ -0,0 +1,51 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.openjdk.jmh.annotations.*;
+import vertexCover.benchmark.GraphSource;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The lower and upper bounds of {@link GraphUtil} and {@link LowerBound}, on the graphs after the reduction rules
+ * like in the search.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundsBenchmark {
+    @Param({"out.dolphins", "inf-USAir97.mtx", "inf-power.mtx", "bio-dmela.mtx", "random-20000-60000",
+            "grid-100x100", "powerlaw-20000-3"})
+    public String graph;
+
+    private Graph g;
+
+    @Setup
+    public void setup() throws IOException {
+        g = SearchTree.applyRules(GraphSource.load(graph)).graph;
+    }
+
+    @Benchmark
+    public int getLowerBound() {
+        return GraphUtil.getLowerBound(g, false);
+    }
+
+    @Benchmark
+    public int matchingBound() {
+        return LowerBound.MATCHING.compute(g);
+    }
+
+    @Benchmark
+    public int cliqueCoverBound() {
+        return LowerBound.CLIQUE_COVER.compute(g);
+    }
+
+    @Benchmark
+    public int getUpperBound() {
+        return GraphUtil.getUpperBound(g);
+    }
+}
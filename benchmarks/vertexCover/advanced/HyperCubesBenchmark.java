@@ -0,0 +1,55 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.openjdk.jmh.annotations.*;
+import vertexCover.benchmark.GraphSource;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The rectangles and hypercubes of {@link HyperCubes} on the raw graphs, and the reduction with them. Every fork
+ * loads the graph once and restores it after each reduction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HyperCubesBenchmark {
+    @Param({"inf-power.mtx", "bio-dmela.mtx", "random-50000-200000", "grid-100x100", "powerlaw-20000-3"})
+    public String graph;
+
+    private Graph g;
+    private int safePoint;
+
+    @Setup
+    public void setup() throws IOException {
+        g = GraphSource.load(graph);
+        safePoint = g.getSafePoint();
+    }
+
+    @Benchmark
+    public int getRects() {
+        return HyperCubes.getRects(g).size();
+    }
+
+    @Benchmark
+    public int allDimensions() {
+        int count = 0;
+        for (Set<Set<Integer>> cubes = HyperCubes.getRects(g); !cubes.isEmpty();
+             cubes = HyperCubes.getHigherDimHyperCubes(g, cubes)) {
+            count += cubes.size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int apply() {
+        int taken = HyperCubes.apply(g);
+        g.restore(safePoint);
+        return taken;
+    }
+}
@@ -0,0 +1,54 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import core.Instance;
+import org.openjdk.jmh.annotations.*;
+import vertexCover.benchmark.GraphSource;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The reduction rules of {@link SearchTree}: one pass of a single rule over every vertex of the graph. The graph is
+ * restored after every pass. All rules together are in {@link SolveBenchmark#applyRules()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReductionBenchmark {
+    @Param({"out.dolphins", "inf-USAir97.mtx", "inf-power.mtx", "bio-dmela.mtx", "random-20000-60000",
+            "grid-100x100", "powerlaw-20000-3"})
+    public String graph;
+
+    @Param({"CLIQUE", "P3", "BIG_NEIGHBOUR", "HIGH_DEGREE"})
+    public ReductionRule rule;
+
+    private Graph g;
+    private int[] vertices;
+    private int safePoint;
+    private int k;
+
+    @Setup
+    public void setup() throws IOException {
+        g = GraphSource.load(graph);
+        vertices = g.getVertices().stream().mapToInt(Integer::intValue).toArray();
+        safePoint = g.getSafePoint();
+        k = GraphUtil.getMatchingBound(g);      //so the high-degree-rule finds something
+    }
+
+    @Benchmark
+    public int rule() {
+        Instance inst = new Instance(g, k);
+        int hits = 0;
+        for (int v : vertices) {
+            if (g.contains(v) && SearchTree.applyRule(rule, inst, v)) {
+                hits++;
+            }
+        }
+        g.restore(safePoint);
+        return hits;
+    }
+}
@@ -0,0 +1,50 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.openjdk.jmh.annotations.*;
+import vertexCover.benchmark.GraphSource;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The whole {@link SearchTree#minVertexCover(Graph)} on every file of the data folder and on generated graphs that
+ * it solves in well below a second, and its first phase (the reduction rules) alone. Every fork loads the graph once
+ * and restores it after each run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolveBenchmark {
+    @Param({"bio-dmela.mtx", "ca-sandi_auths.mtx", "inf-USAir97.mtx", "inf-openflights.edges", "inf-power.mtx",
+            "out.adjnoun_adjacency_adjacency", "out.arenas-email", "out.arenas-jazz", "out.contiguous-usa",
+            "out.dolphins", "out.moreno_zebra_zebra", "out.ucidata-zachary", "sample", "sample2",
+            "soc-brightkite.mtx", "random-2000-3000", "grid-40x40", "powerlaw-5000-2"})
+    public String graph;
+
+    private Graph g;
+    private int safePoint;
+
+    @Setup
+    public void setup() throws IOException {
+        g = GraphSource.load(graph);
+        safePoint = g.getSafePoint();
+    }
+
+    @Benchmark
+    public int applyRules() {
+        int change = SearchTree.applyRules(g).k;
+        g.restore(safePoint);
+        return change;
+    }
+
+    @Benchmark
+    public int minVertexCover() {
+        int k = SearchTree.minVertexCover(g);
+        g.restore(safePoint);
+        return k;
+    }
+}
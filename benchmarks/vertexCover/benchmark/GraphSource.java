@@ -0,0 +1,66 @@
+package vertexCover.benchmark;
+
+import core.Graph;
+import vertexCover.application.GraphFamily;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The graphs of the benchmarks. The "@Param" of a benchmark is either the name of a file in the data folder or a
+ * {@link GraphFamily} with its size, always with the same seed so every run gets the same graph:
+ * <ul>
+ * <li>"random-n-m": n vertices and m random edges (Erdos-Renyi G(n, m))</li>
+ * <li>"grid-RxC": a grid of R rows and C columns, like a road network</li>
+ * <li>"powerlaw-n-d": n vertices, every new vertex gets d edges to vertices picked by their degree
+ * (Barabasi-Albert), like the social and web graphs in the data folder</li>
+ * <li>"planted-n-k-m": n vertices and m edges with a vertex cover of exactly k vertices</li>
+ * </ul>
+ */
+public class GraphSource {
+    private static final long SEED = 0;
+
+    private GraphSource() {
+    }
+
+    /**
+     * @param name A file in the data folder or a generated family
+     * @return A new graph, so the benchmark may change it
+     * @throws IOException If it is a file that can't be read
+     */
+    public static Graph load(String name) throws IOException {
+        File file = new File("data", name);
+        if (file.exists()) {
+            return new Graph(file);
+        }
+        String[] parts = name.split("[-x]");
+        switch (parts[0]) {
+            case "random":
+                return GraphFamily.random(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), SEED).toGraph();
+            case "grid":
+                return GraphFamily.grid(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), 1, SEED).toGraph();
+            case "powerlaw":
+                return GraphFamily.powerLaw(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), SEED).toGraph();
+            case "planted":
+                return GraphFamily.planted(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                        Integer.parseInt(parts[3]), SEED).toGraph();
+            default:
+                throw new IllegalArgumentException("Neither a file in the data folder nor a graph family: " + name);
+        }
+    }
+
+    /**
+     * @return Every edge of "g" once, as pairs of IDs
+     */
+    public static int[][] edges(Graph g) {
+        List<int[]> edges = new ArrayList<>();
+        g.forEachVertex(v -> g.forEachNeighbour(v, w -> {
+            if (v < w) {
+                edges.add(new int[]{v, w});
+            }
+        }));
+        return edges.toArray(new int[0][]);
+    }
+}
@@ -0,0 +1,101 @@
+package core;
+
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * The storage behind a {@link Graph}. A {@link Graph} only keeps track of the undo-information and forwards every
+ * change to an {@link Adjacency}, so the algorithms working on a {@link Graph} don't know how the vertices and edges
+ * are actually stored.
+ * <p>
+ * None of these methods write anything onto the trail (the undo-information), this is done by the {@link Graph} itself.
+ * All IDs are the IDs the user of the {@link Graph} sees, an implementation may remap them internally.
+ */
+public interface Adjacency {
+
+    /**
+     * Bulk-loads the given edges into this (empty) structure. Self-loops are ignored and duplicate edges
+     * (in either direction) are only added once.
+     *
+     * @param from  First IDs of the edges
+     * @param to    Second IDs of the edges
+     * @param count The number of edges stored in "from" and "to"
+     */
+    void load(int[] from, int[] to, int count);
+
+    /**
+     * @return A new, empty structure of the same kind
+     */
+    Adjacency emptyCopy();
+
+    boolean contains(int v);
+
+    int degree(int v);
+
+    boolean adjacent(int v, int w);
+
+    /**
+     * @return The number of vertices (even if they are disconnected)
+     */
+    int vertexCount();
+
+    int edgeCount();
+
+    /**
+     * @return True if the vertex was added, false if it already existed
+     */
+    boolean insertVertex(int v);
+
+    /**
+     * Removes the vertex and all of its edges.
+     *
+     * @return True if the vertex existed
+     */
+    boolean removeVertex(int v);
+
+    /**
+     * Both vertices have to exist already.
+     *
+     * @return True if the edge was added, false if it already existed
+     */
+    boolean insertEdge(int v, int w);
+
+    /**
+     * Only removes the edge, both vertices stay in the structure even if they have no edges left.
+     *
+     * @return True if the edge existed
+     */
+    boolean removeEdge(int v, int w);
+
+    /**
+     * May return a read-only view on the internal data, so the structure must not be changed while iterating
+     * over the result.
+     *
+     * @return The IDs of all neighbours of "v", an empty set if "v" doesn't exist
+     */
+    Set<Integer> neighbours(int v);
+
+    /**
+     * Calls "action" with the ID of every neighbour of "v" without copying them. The structure must not be changed
+     * by "action".
+     */
+    void forEachNeighbour(int v, IntConsumer action);
+
+    /**
+     * The structure must not be changed while the iterator is used.
+     *
+     * @return An iterator over the IDs of all neighbours of "v", empty if "v" doesn't exist
+     */
+    PrimitiveIterator.OfInt neighbourIterator(int v);
+
+    /**
+     * Calls "action" with the ID of every vertex without copying them. The structure must not be changed by "action".
+     */
+    void forEachVertex(IntConsumer action);
+
+    /**
+     * @return A new set with the IDs of all vertices
+     */
+    Set<Integer> vertices();
+}
@@ -0,0 +1,109 @@
+package core;
+
+import java.util.Arrays;
+
+/**
+ * The connected components of a {@link Graph}, found with one breadth-first search over the int arrays of an
+ * {@link IndexedGraph} in O(n + m). Every component can then be copied into its own {@link Graph}, which shares
+ * nothing with the original one, so it can be given to another thread.
+ */
+public class Components {
+    /**
+     * The number of components
+     */
+    public final int count;
+    private final Graph graph;
+    private final IndexedGraph g;
+    private final int[] label;      //the component of every dense index
+    private final int[] start;      //the vertices of component "c" are order[start[c]] up to order[start[c + 1] - 1]
+    private final int[] order;
+
+    public Components(Graph graph) {
+        this.graph = graph;
+        g = new IndexedGraph(graph);
+        int n = g.n;
+        label = new int[n];
+        order = new int[n];     //the vertices in the order they are visited, so every component is one block
+        Arrays.fill(label, -1);
+
+        int components = 0;
+        int visited = 0;
+        int[] componentStart = new int[n + 1];
+        for (int root = 0; root < n; root++) {
+            if (label[root] >= 0) {
+                continue;
+            }
+            componentStart[components] = visited;
+            label[root] = components;
+            order[visited++] = root;
+            //"order" is the queue of the search at the same time
+            for (int head = componentStart[components]; head < visited; head++) {
+                int v = order[head];
+                for (int s = g.offsets[v]; s < g.offsets[v + 1]; s++) {
+                    int t = g.targets[s];
+                    if (label[t] < 0) {
+                        label[t] = components;
+                        order[visited++] = t;
+                    }
+                }
+            }
+            components++;
+        }
+        componentStart[components] = n;
+        count = components;
+        start = Arrays.copyOf(componentStart, components + 1);
+    }
+
+    /**
+     * @return The number of vertices in component "c"
+     */
+    public int size(int c) {
+        return start[c + 1] - start[c];
+    }
+
+    /**
+     * @return The component of the vertex with this ID, -1 if it doesn't exist
+     */
+    public int componentOf(int id) {
+        int i = g.indexOf(id);
+        return i < 0 ? -1 : label[i];
+    }
+
+    /**
+     * @param c The number of the component (0 up to {@link #count} - 1)
+     * @return A new {@link Graph} with the vertices and edges of component "c", stored in the same kind of
+     * {@link Adjacency} as the original graph
+     */
+    public Graph graph(int c) {
+        return graph(c, graph.emptyAdjacency());
+    }
+
+    /**
+     * @param c     The number of the component (0 up to {@link #count} - 1)
+     * @param edges An empty {@link Adjacency} for the new {@link Graph}
+     * @return A new {@link Graph} with the vertices and edges of component "c"
+     */
+    public Graph graph(int c, Adjacency edges) {
+        int edgeCount = 0;
+        for (int i = start[c]; i < start[c + 1]; i++) {
+            edgeCount += g.degree(order[i]);
+        }
+        int[] from = new int[edgeCount / 2];
+        int[] to = new int[from.length];
+        int pos = 0;
+        for (int i = start[c]; i < start[c + 1]; i++) {
+            int v = order[i];
+            for (int s = g.offsets[v]; s < g.offsets[v + 1]; s++) {
+                if (v < g.targets[s]) {
+                    from[pos] = g.ids[v];
+                    to[pos++] = g.ids[g.targets[s]];
+                }
+            }
+        }
+        edges.load(from, to, pos);
+        for (int i = start[c]; i < start[c + 1]; i++) {
+            edges.insertVertex(g.ids[order[i]]);    //for a vertex without edges
+        }
+        return new Graph(edges);
+    }
+}
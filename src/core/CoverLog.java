@@ -0,0 +1,75 @@
+package core;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Records which vertices the reduction rules and the branches of a search took into the cover, so the cover itself can
+ * be built in the end and not only its size. Like the {@link Trail}, it is a stack of ints, and its size can be used
+ * to forget everything a failed branch recorded.
+ * <p>
+ * A vertex of degree two whose neighbours are merged ("fold") isn't decided right away: if the merged vertex is in the
+ * cover of the smaller graph, both neighbours are in the cover, otherwise the vertex itself is. So the cover is built
+ * backwards, every fold after everything that happened to the merged vertex later.
+ */
+public class CoverLog {
+    private static final int TAKE = 0;
+    private static final int FOLD = 1;
+
+    private int[] data = new int[64];
+    private int size;
+
+    /**
+     * @param v Is in the cover
+     */
+    public void take(int v) {
+        push(v, 0, 0, TAKE);
+    }
+
+    /**
+     * @param v    A vertex with only the two neighbours "from" and "to", which are not adjacent
+     * @param from Was merged into "to"
+     */
+    public void fold(int v, int from, int to) {
+        push(v, from, to, FOLD);
+    }
+
+    private void push(int a, int b, int c, int op) {
+        if (size + 4 > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        data[size++] = a;
+        data[size++] = b;
+        data[size++] = c;
+        data[size++] = op;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Forgets everything that was recorded after "size" was returned by {@link #size()}
+     */
+    public void truncate(int size) {
+        this.size = size;
+    }
+
+    /**
+     * @return The IDs of the vertices of the cover, each of them once
+     */
+    public int[] cover() {
+        Set<Integer> cover = new HashSet<>();
+        for (int i = size - 4; i >= 0; i -= 4) {
+            if (data[i + 3] == TAKE) {
+                cover.add(data[i]);
+            } else if (cover.contains(data[i + 2])) {
+                cover.add(data[i + 1]);
+            } else {
+                cover.add(data[i]);
+            }
+        }
+        return cover.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,449 @@
+package core;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * A compact {@link Adjacency} for big graphs that are loaded once and then mostly shrink.
+ * <p>
+ * The IDs of the vertices are remapped onto dense indices. The edges from {@link #load(int[], int[], int)} are stored
+ * in compressed sparse row form: the neighbours of the dense vertex "d" are "targets[offsets[d]]" up to
+ * "targets[offsets[d + 1] - 1]", sorted in ascending order. Every edge is stored in both directions and "twin" points
+ * from one direction to the other.
+ * <p>
+ * Nothing is ever removed from these arrays. Deleted vertices and edges only clear their bit in "vertexAlive" and
+ * "slotAlive" and the live degree of every vertex is counted in "degree". If an edge is added again later, its bit is
+ * just set again. Only edges that never existed in the loaded graph (for example from merging vertices) are stored
+ * in the small per-vertex arrays "extra".
+ */
+public class CsrAdjacency implements Adjacency {
+    private IdMap index = new IdMap(16);
+    private int[] ids = new int[16];            //dense index -> ID
+    private int n;                              //number of dense indices handed out so far
+    private long[] vertexAlive = new long[1];
+    private int[] degree = new int[16];
+    private int vertexCount;
+    private int edgeCount;
+
+    //the compressed sparse rows, they only cover the first "csrN" dense indices
+    private int csrN;
+    private int[] offsets = {0};
+    private int[] targets = new int[0];
+    private int[] twin = new int[0];
+    private long[] slotAlive = new long[0];
+
+    //edges that have no slot in the compressed sparse rows
+    private int[][] extra = new int[16][];
+    private int[] extraSize = new int[16];
+
+    @Override
+    public void load(int[] from, int[] to, int count) {
+        if (n != 0) {
+            throw new IllegalStateException("Can only load into an empty structure!");
+        }
+        index = new IdMap(count);
+        int[] a = new int[count];
+        int[] b = new int[count];
+        int m = 0;
+        for (int i = 0; i < count; i++) {
+            if (from[i] != to[i]) {
+                a[m] = addIndex(from[i]);
+                b[m] = addIndex(to[i]);
+                m++;
+            }
+        }
+
+        //count the degrees and fill the rows
+        offsets = new int[n + 1];
+        for (int i = 0; i < m; i++) {
+            offsets[a[i] + 1]++;
+            offsets[b[i] + 1]++;
+        }
+        for (int d = 0; d < n; d++) {
+            offsets[d + 1] += offsets[d];
+        }
+        targets = new int[2 * m];
+        int[] fill = Arrays.copyOf(offsets, n);
+        for (int i = 0; i < m; i++) {
+            targets[fill[a[i]]++] = b[i];
+            targets[fill[b[i]]++] = a[i];
+        }
+
+        //sort every row and remove duplicate edges
+        int write = 0;
+        for (int d = 0; d < n; d++) {
+            int start = offsets[d];
+            int end = offsets[d + 1];
+            offsets[d] = write;
+            Arrays.sort(targets, start, end);
+            for (int s = start; s < end; s++) {
+                if (s == start || targets[s] != targets[s - 1]) {
+                    targets[write++] = targets[s];
+                }
+            }
+            degree[d] = write - offsets[d];
+        }
+        offsets[n] = write;
+        if (write != targets.length) {
+            targets = Arrays.copyOf(targets, write);
+        }
+        linkRows();
+    }
+
+    /**
+     * Loads rows that are already in compressed sparse row form into this (empty) structure, which is a lot faster
+     * than {@link #load(int[], int[], int)}. The arrays are used directly, they are not copied.
+     *
+     * @param ids     The ID of every dense index
+     * @param offsets The rows of the dense indices, "offsets[ids.length]" is the length of "targets"
+     * @param targets The dense neighbours of every row, sorted in ascending order and stored in both directions
+     */
+    void loadRows(int[] ids, int[] offsets, int[] targets) {
+        if (n != 0) {
+            throw new IllegalStateException("Can only load into an empty structure!");
+        }
+        index = new IdMap(ids.length);
+        for (int id : ids) {
+            addIndex(id);
+        }
+        this.offsets = offsets;
+        this.targets = targets;
+        for (int d = 0; d < n; d++) {
+            degree[d] = offsets[d + 1] - offsets[d];
+        }
+        linkRows();
+    }
+
+    /**
+     * Fills "twin" and marks every slot as alive after the rows were loaded.
+     */
+    private void linkRows() {
+        csrN = n;
+        twin = new int[targets.length];
+        for (int d = 0; d < n; d++) {
+            for (int s = offsets[d]; s < offsets[d + 1]; s++) {
+                twin[s] = findSlot(targets[s], d);
+            }
+        }
+        slotAlive = new long[(targets.length + 63) >>> 6];
+        Arrays.fill(slotAlive, -1L);
+        edgeCount = targets.length / 2;
+    }
+
+    @Override
+    public Adjacency emptyCopy() {
+        return new CsrAdjacency();
+    }
+
+    @Override
+    public boolean contains(int v) {
+        int d = index.get(v);
+        return d >= 0 && isAlive(vertexAlive, d);
+    }
+
+    @Override
+    public int degree(int v) {
+        int d = index.get(v);
+        return d < 0 ? 0 : degree[d];
+    }
+
+    @Override
+    public boolean adjacent(int v, int w) {
+        int dv = index.get(v);
+        int dw = index.get(w);
+        return dv >= 0 && dw >= 0 && adjacentDense(dv, dw);
+    }
+
+    @Override
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    @Override
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    public boolean insertVertex(int v) {
+        int d = index.get(v);
+        if (d < 0) {
+            addIndex(v);
+            return true;
+        }
+        if (isAlive(vertexAlive, d)) {
+            return false;
+        }
+        setAlive(vertexAlive, d);
+        vertexCount++;
+        return true;
+    }
+
+    @Override
+    public boolean removeVertex(int v) {
+        int d = index.get(v);
+        if (d < 0 || !isAlive(vertexAlive, d)) {
+            return false;
+        }
+        if (d < csrN) {
+            for (int s = offsets[d]; s < offsets[d + 1]; s++) {
+                if (isAlive(slotAlive, s)) {
+                    clearAlive(slotAlive, s);
+                    clearAlive(slotAlive, twin[s]);
+                    degree[targets[s]]--;
+                }
+            }
+        }
+        for (int i = 0; i < extraSize[d]; i++) {
+            int t = extra[d][i];
+            removeExtra(t, d);
+            degree[t]--;
+        }
+        extraSize[d] = 0;
+        edgeCount -= degree[d];
+        degree[d] = 0;
+        clearAlive(vertexAlive, d);
+        vertexCount--;
+        return true;
+    }
+
+    @Override
+    public boolean insertEdge(int v, int w) {
+        int dv = index.get(v);
+        int dw = index.get(w);
+        if (adjacentDense(dv, dw)) {
+            return false;
+        }
+        int s = findSlot(dv, dw);
+        if (s >= 0) {
+            setAlive(slotAlive, s);
+            setAlive(slotAlive, twin[s]);
+        } else {
+            addExtra(dv, dw);
+            addExtra(dw, dv);
+        }
+        degree[dv]++;
+        degree[dw]++;
+        edgeCount++;
+        return true;
+    }
+
+    @Override
+    public boolean removeEdge(int v, int w) {
+        int dv = index.get(v);
+        int dw = index.get(w);
+        int s = findSlot(dv, dw);
+        if (s >= 0) {
+            if (!isAlive(slotAlive, s)) {
+                return false;
+            }
+            clearAlive(slotAlive, s);
+            clearAlive(slotAlive, twin[s]);
+        } else if (!removeExtra(dv, dw)) {
+            return false;
+        } else {
+            removeExtra(dw, dv);
+        }
+        degree[dv]--;
+        degree[dw]--;
+        edgeCount--;
+        return true;
+    }
+
+    @Override
+    public Set<Integer> neighbours(int v) {
+        HashSet<Integer> result = new HashSet<>();
+        int d = index.get(v);
+        if (d < 0) {
+            return result;
+        }
+        if (d < csrN) {
+            for (int s = offsets[d]; s < offsets[d + 1]; s++) {
+                if (isAlive(slotAlive, s)) {
+                    result.add(ids[targets[s]]);
+                }
+            }
+        }
+        for (int i = 0; i < extraSize[d]; i++) {
+            result.add(ids[extra[d][i]]);
+        }
+        return result;
+    }
+
+    @Override
+    public void forEachNeighbour(int v, IntConsumer action) {
+        int d = index.get(v);
+        if (d < 0) {
+            return;
+        }
+        if (d < csrN) {
+            for (int s = offsets[d]; s < offsets[d + 1]; s++) {
+                if (isAlive(slotAlive, s)) {
+                    action.accept(ids[targets[s]]);
+                }
+            }
+        }
+        for (int i = 0; i < extraSize[d]; i++) {
+            action.accept(ids[extra[d][i]]);
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt neighbourIterator(int v) {
+        return new NeighbourIterator(index.get(v));
+    }
+
+    @Override
+    public void forEachVertex(IntConsumer action) {
+        for (int d = 0; d < n; d++) {
+            if (isAlive(vertexAlive, d)) {
+                action.accept(ids[d]);
+            }
+        }
+    }
+
+    @Override
+    public Set<Integer> vertices() {
+        HashSet<Integer> result = new HashSet<>(vertexCount * 2);
+        for (int d = 0; d < n; d++) {
+            if (isAlive(vertexAlive, d)) {
+                result.add(ids[d]);
+            }
+        }
+        return result;
+    }
+
+    private boolean adjacentDense(int dv, int dw) {
+        int s = findSlot(dv, dw);
+        if (s >= 0) {
+            return isAlive(slotAlive, s);
+        }
+        for (int i = 0; i < extraSize[dv]; i++) {
+            if (extra[dv][i] == dw) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The position of the edge from "d" to "t" in "targets", or -1 if it isn't in the compressed sparse rows
+     */
+    private int findSlot(int d, int t) {
+        if (d >= csrN) {
+            return -1;
+        }
+        int lo = offsets[d];
+        int hi = offsets[d + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (targets[mid] < t) {
+                lo = mid + 1;
+            } else if (targets[mid] > t) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private void addExtra(int d, int t) {
+        if (extra[d] == null) {
+            extra[d] = new int[4];
+        } else if (extraSize[d] == extra[d].length) {
+            extra[d] = Arrays.copyOf(extra[d], extraSize[d] * 2);
+        }
+        extra[d][extraSize[d]++] = t;
+    }
+
+    private boolean removeExtra(int d, int t) {
+        for (int i = 0; i < extraSize[d]; i++) {
+            if (extra[d][i] == t) {
+                extra[d][i] = extra[d][--extraSize[d]];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Hands out the next dense index for a new ID (the vertex is alive afterwards) or returns the existing one.
+     */
+    private int addIndex(int id) {
+        int d = index.getOrAdd(id);
+        if (d == n) {
+            if (n == ids.length) {
+                int capacity = n * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                degree = Arrays.copyOf(degree, capacity);
+                extra = Arrays.copyOf(extra, capacity);
+                extraSize = Arrays.copyOf(extraSize, capacity);
+                vertexAlive = Arrays.copyOf(vertexAlive, (capacity + 63) >>> 6);
+            }
+            ids[n++] = id;
+            setAlive(vertexAlive, d);
+            vertexCount++;
+        }
+        return d;
+    }
+
+    private static boolean isAlive(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private static void setAlive(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    private static void clearAlive(long[] bits, int i) {
+        bits[i >>> 6] &= ~(1L << i);
+    }
+
+    /**
+     * Goes through the live slots of the compressed sparse row first and then through the extra edges.
+     */
+    private class NeighbourIterator implements PrimitiveIterator.OfInt {
+        private final int d;
+        private int slot;
+        private int end;
+        private int extraPos;
+
+        NeighbourIterator(int d) {
+            this.d = d;
+            if (d >= 0 && d < csrN) {
+                slot = offsets[d];
+                end = offsets[d + 1];
+            }
+            skipDead();
+        }
+
+        private void skipDead() {
+            while (slot < end && !isAlive(slotAlive, slot)) {
+                slot++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot < end || d >= 0 && extraPos < extraSize[d];
+        }
+
+        @Override
+        public int nextInt() {
+            if (slot < end) {
+                int result = ids[targets[slot++]];
+                skipDead();
+                return result;
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return ids[extra[d][extraPos++]];
+        }
+    }
+}
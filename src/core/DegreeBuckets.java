@@ -0,0 +1,172 @@
+package core;
+
+import java.util.Arrays;
+
+/**
+ * Sorts the vertices of a {@link Graph} by their degree: every degree has a doubly linked list ("bucket") of its
+ * vertices. Changing the degree of a vertex by one moves it into the next bucket in O(1), so the vertex with the
+ * maximum degree, the vertices with a given degree and the number of edges can be looked up without going through
+ * all vertices.
+ */
+class DegreeBuckets {
+    private static final int NONE = -1;
+
+    private final IdMap index;
+    private int[] ids = new int[16];
+    private int[] degree = new int[16];     //NONE if the vertex doesn't exist
+    private int[] next = new int[16];
+    private int[] prev = new int[16];
+    private int[] head = {NONE, NONE};      //the first vertex of every bucket
+    private int[] count = new int[2];       //the number of vertices in every bucket
+    private int maxDegree;
+    private long degreeSum;
+
+    DegreeBuckets(int expected) {
+        index = new IdMap(expected);
+    }
+
+    /**
+     * Adds a vertex with degree 0, does nothing if it already exists
+     */
+    void add(int v) {
+        add(v, 0);
+    }
+
+    /**
+     * Adds a vertex whose edges already exist (when a whole graph is loaded), does nothing if it already exists
+     */
+    void add(int v, int d) {
+        int known = index.size();
+        int i = index.getOrAdd(v);
+        if (i == known) {    //seen for the first time
+            if (i == ids.length) {
+                int length = ids.length * 2;
+                ids = Arrays.copyOf(ids, length);
+                degree = Arrays.copyOf(degree, length);
+                next = Arrays.copyOf(next, length);
+                prev = Arrays.copyOf(prev, length);
+            }
+            ids[i] = v;
+            degree[i] = NONE;
+        }
+        if (degree[i] == NONE) {
+            degree[i] = d;
+            link(i);
+            degreeSum += d;
+            maxDegree = Math.max(maxDegree, d);
+        }
+    }
+
+    /**
+     * Removes the vertex, its neighbours have to be changed with {@link #decrement(int)} separately
+     */
+    void remove(int v) {
+        int i = index.get(v);
+        if (i != NONE && degree[i] != NONE) {
+            unlink(i);
+            degreeSum -= degree[i];
+            degree[i] = NONE;
+            lowerMax();
+        }
+    }
+
+    void increment(int v) {
+        int i = index.get(v);
+        unlink(i);
+        degree[i]++;
+        degreeSum++;
+        link(i);
+        maxDegree = Math.max(maxDegree, degree[i]);
+    }
+
+    void decrement(int v) {
+        int i = index.get(v);
+        unlink(i);
+        degree[i]--;
+        degreeSum--;
+        link(i);
+        lowerMax();
+    }
+
+    int maxDegree() {
+        return maxDegree;
+    }
+
+    /**
+     * @return A vertex with the maximum degree, the graph must not be empty
+     */
+    int maxDegreeVertex() {
+        return ids[head[maxDegree]];
+    }
+
+    /**
+     * @return The number of vertices with degree "d"
+     */
+    int count(int d) {
+        return d < count.length ? count[d] : 0;
+    }
+
+    /**
+     * @return One of the vertices with degree "d", there has to be one
+     */
+    int first(int d) {
+        return ids[head[d]];
+    }
+
+    /**
+     * @return The IDs of all vertices with degree "d"
+     */
+    int[] vertices(int d) {
+        int[] result = new int[count(d)];
+        int pos = 0;
+        for (int i = d < head.length ? head[d] : NONE; i != NONE; i = next[i]) {
+            result[pos++] = ids[i];
+        }
+        return result;
+    }
+
+    int edgeCount() {
+        return (int) (degreeSum / 2);
+    }
+
+    private void link(int i) {
+        int d = degree[i];
+        if (d >= head.length) {
+            int length = Math.max(head.length * 2, d + 1);
+            int old = head.length;
+            head = Arrays.copyOf(head, length);
+            Arrays.fill(head, old, length, NONE);
+            count = Arrays.copyOf(count, length);
+        }
+        prev[i] = NONE;
+        next[i] = head[d];
+        if (head[d] != NONE) {
+            prev[head[d]] = i;
+        }
+        head[d] = i;
+        count[d]++;
+    }
+
+    private void unlink(int i) {
+        int d = degree[i];
+        if (prev[i] != NONE) {
+            next[prev[i]] = next[i];
+        } else {
+            head[d] = next[i];
+        }
+        if (next[i] != NONE) {
+            prev[next[i]] = prev[i];
+        }
+        count[d]--;
+    }
+
+    /**
+     * The maximum only gets smaller by going down to the next bucket that isn't empty. This takes at most as many
+     * steps as the degree of a deleted vertex, which were already needed to delete its edges.
+     */
+    private void lowerMax() {
+        while (maxDegree > 0 && head[maxDegree] == NONE) {
+            maxDegree--;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The edges of a text file with one edge per line. The file is memory-mapped and the bytes are scanned directly,
+ * so no strings or boxed integers are created for the lines.
+ * <p>
+ * Understands all formats in the data folder:
+ * <ul>
+ * <li>Matrix Market (.mtx): the "%%MatrixMarket" header, "%" comments and the size line after them</li>
+ * <li>KONECT (out.*): "%" comments, tabs or spaces between the IDs and additional columns like weights</li>
+ * <li>plain edge lists (.edges)</li>
+ * </ul>
+ * Lines starting with "#", "c" or "p" are ignored too. Self-loops are dropped and duplicate edges (also in the other
+ * direction) are only kept once, which is done in bulk by sorting all edges at the end.
+ * <p>
+ * Files ending with ".bin" are binary instead: two 4 byte IDs (big-endian) per edge, without anything else. The
+ * generator of the applications writes them for graphs whose text would take too long to parse.
+ */
+public class EdgeList {
+    /**
+     * How much of the file is mapped at once. A {@link MappedByteBuffer} can't be bigger than 2 GB.
+     */
+    private static final int CHUNK_SIZE = 1 << 30;
+
+    public final int[] from;
+    public final int[] to;
+    public final int count;
+
+    private long[] packed = new long[1024];     //smaller ID in the upper 32 bits, bigger ID in the lower 32 bits
+    private int packedCount;
+    private boolean skipSizeLine;
+    private boolean firstLine = true;
+
+    private EdgeList(File file) throws IOException {
+        boolean binary = file.getName().endsWith(".bin");
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (binary && size % 8 != 0) {
+                throw new IOException("A binary edge file has 8 bytes per edge!");
+            }
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(CHUNK_SIZE, size - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                boolean last = position + length == size;
+                position += binary ? parseBinary(buffer, (int) length) : parse(buffer, (int) length, last);
+            }
+        }
+
+        //sort and remove duplicates
+        if (packedCount > 1 << 16) {
+            Arrays.parallelSort(packed, 0, packedCount);
+        } else {
+            Arrays.sort(packed, 0, packedCount);
+        }
+        int unique = 0;
+        for (int i = 0; i < packedCount; i++) {
+            if (i == 0 || packed[i] != packed[i - 1]) {
+                packed[unique++] = packed[i];
+            }
+        }
+        from = new int[unique];
+        to = new int[unique];
+        for (int i = 0; i < unique; i++) {
+            from[i] = (int) (packed[i] >>> 32);
+            to[i] = (int) packed[i];
+        }
+        count = unique;
+        packed = null;
+    }
+
+    /**
+     * @param file A text file with one edge per line
+     * @return All edges of this file without self-loops and duplicates
+     */
+    public static EdgeList read(File file) throws IOException {
+        return new EdgeList(file);
+    }
+
+    /**
+     * Parses all complete lines in the buffer. If this isn't the last part of the file, the last (maybe incomplete)
+     * line is left for the next buffer.
+     *
+     * @return The number of bytes that were parsed
+     */
+    private int parse(MappedByteBuffer buffer, int length, boolean last) {
+        int end = length;
+        if (!last) {
+            while (end > 0 && buffer.get(end - 1) != '\n') {
+                end--;
+            }
+            if (end == 0) {
+                throw new IllegalStateException("A line is longer than " + CHUNK_SIZE + " bytes!");
+            }
+        }
+
+        int pos = 0;
+        while (pos < end) {
+            int lineEnd = pos;
+            while (lineEnd < end && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            parseLine(buffer, pos, lineEnd);
+            pos = lineEnd + 1;
+        }
+        return end;
+    }
+
+    /**
+     * The chunks are a multiple of 8 bytes long, so they always end with a complete edge
+     *
+     * @return The number of bytes that were parsed
+     */
+    private int parseBinary(MappedByteBuffer buffer, int length) {
+        for (int pos = 0; pos < length; pos += 8) {
+            add(buffer.getInt(pos), buffer.getInt(pos + 4));
+        }
+        return length;
+    }
+
+    private void parseLine(MappedByteBuffer buffer, int lineStart, int end) {
+        int pos = lineStart;
+        if (firstLine) {
+            firstLine = false;
+            skipSizeLine = startsWith(buffer, pos, end, "%%MatrixMarket");
+        }
+        pos = skipSpaces(buffer, pos, end);
+        if (pos == end) {
+            return;
+        }
+        byte first = buffer.get(pos);
+        if (first == '%' || first == '#' || first == 'c' || first == 'p') {
+            return;
+        }
+        if (skipSizeLine) {     //the first line after the comments of a Matrix Market file only has the sizes
+            skipSizeLine = false;
+            return;
+        }
+
+        long v = 0;
+        boolean negative = first == '-';
+        if (negative) {
+            pos++;
+        }
+        int start = pos;
+        while (pos < end && isDigit(buffer.get(pos))) {
+            v = v * 10 + buffer.get(pos++) - '0';
+        }
+        if (pos == start) {
+            throw new NumberFormatException("Not an edge: " + line(buffer, lineStart, end));
+        }
+        v = negative ? -v : v;
+
+        pos = skipSpaces(buffer, pos, end);
+        long w = 0;
+        negative = pos < end && buffer.get(pos) == '-';
+        if (negative) {
+            pos++;
+        }
+        start = pos;
+        while (pos < end && isDigit(buffer.get(pos))) {
+            w = w * 10 + buffer.get(pos++) - '0';
+        }
+        if (pos == start) {
+            throw new NumberFormatException("Not an edge: " + line(buffer, lineStart, end));
+        }
+        w = negative ? -w : w;
+
+        if (v != (int) v || w != (int) w) {
+            throw new NumberFormatException("ID out of range: " + line(buffer, lineStart, end));
+        }
+        add(v, w);
+    }
+
+    private void add(long v, long w) {
+        if (v != w) {
+            if (packedCount == packed.length) {
+                packed = Arrays.copyOf(packed, packedCount + (packedCount >> 1));
+            }
+            packed[packedCount++] = (Math.min(v, w) << 32) | (Math.max(v, w) & 0xFFFFFFFFL);
+        }
+    }
+
+    private static int skipSpaces(MappedByteBuffer buffer, int pos, int end) {
+        while (pos < end) {
+            byte b = buffer.get(pos);
+            if (b != ' ' && b != '\t' && b != ',' && b != '\r') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean startsWith(MappedByteBuffer buffer, int pos, int end, String prefix) {
+        if (end - pos < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (buffer.get(pos + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String line(MappedByteBuffer buffer, int pos, int end) {
+        byte[] bytes = new byte[end - pos];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(pos + i);
+        }
+        return new String(bytes);
+    }
+}
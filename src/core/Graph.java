@@ -1,40 +1,82 @@
 package core;
 
-import vertexCover.advanced.UndoStack;
-
 import java.io.*;
 import java.util.*;
-
+import java.util.function.IntConsumer;
+
+/**
+ * An undirected graph that can undo all of its changes (see {@link #getSafePoint()} and {@link #restore(int)}).
+ * How the vertices and edges are stored is decided by the {@link Adjacency} given in the constructor,
+ * by default this is a {@link HashAdjacency}.
+ * <p>
+ * The graph also remembers "dirty" vertices: every change marks the vertices around it, for which a reduction rule
+ * could give a different result now. The rules only need to look at these again (see {@link #nextDirtyVertex()})
+ * instead of at the whole graph.
+ */
 public class Graph {
-    private HashMap<Integer, HashSet<Integer>> edges;
-    private UndoStack undoStack;
+    //the opcodes on the trail
+    private static final int ADD_VERTEX = 0;
+    private static final int ADD_EDGE = 1;
+    private static final int DELETE_EDGE = 2;
+    private static final int DELETE_VERTEX = 3;
+
+    private Adjacency edges;
+    private Trail trail;
+    private Worklist dirty = new Worklist();
+    private DegreeBuckets buckets;
+    private long hash;      //see getHash()
 
     public Graph() {
-        edges = new HashMap<>();
-        undoStack = new UndoStack();
+        this(new HashAdjacency());
+    }
+
+    /**
+     * @param edges An empty {@link Adjacency} that stores the vertices and edges of this {@link Graph}
+     */
+    public Graph(Adjacency edges) {
+        this.edges = edges;
+        trail = new Trail();
+        countDegrees();
     }
 
     public Graph(File file) throws IOException {
-        this();
+        this(file, new HashAdjacency());
+    }
+
+    /**
+     * @param file  A text file with one edge per line, see {@link EdgeList} for the supported formats
+     * @param edges An empty {@link Adjacency} that stores the vertices and edges of this {@link Graph}
+     */
+    public Graph(File file, Adjacency edges) throws IOException {
+        this(edges);
         if (!file.exists()) {
             throw new FileNotFoundException("The file doesn't exist!");
         } else if (file.isDirectory()) {
             throw new FileNotFoundException("The file is a directory!");
         }
 
-        BufferedReader br = new BufferedReader(new FileReader(file));
-        String line;
-        Scanner i;
-        while ((line = br.readLine()) != null) {
-            //only necessary if the file format contains additional annotations
-            if (line.equals("") || line.startsWith("c") || line.startsWith("p")) {
-                continue;
+        EdgeList edgeList = EdgeList.read(file);
+        edges.load(edgeList.from, edgeList.to, edgeList.count);
+        countDegrees();
+    }
+
+    /**
+     * Fills the {@link DegreeBuckets} with the vertices that are already stored in "edges" and computes their hash
+     */
+    private void countDegrees() {
+        buckets = new DegreeBuckets(edges.vertexCount());
+        hash = 0;
+        for (int v : edges.vertices()) {
+            buckets.add(v, edges.degree(v));
+            hash ^= vertexKey(v);
+            PrimitiveIterator.OfInt it = edges.neighbourIterator(v);
+            while (it.hasNext()) {
+                int nb = it.nextInt();
+                if (v < nb) {
+                    hash ^= edgeKey(v, nb);
+                }
             }
-            i = new Scanner(line);
-            addEdge(i.nextInt(), i.nextInt(), false);
-            i.close();
         }
-        br.close();
     }
 
     /**
@@ -46,20 +88,33 @@ public class Graph {
         addVertex(v, true);
     }
 
-    private void addVertex(Integer v, boolean addToStack) {
-        if (!contains(v)) {
-            edges.put(v, new HashSet<>());
+    private void addVertex(int v, boolean addToStack) {
+        if (edges.insertVertex(v)) {
+            buckets.add(v);
+            hash ^= vertexKey(v);
             if (addToStack) {
-                undoStack.push(new UndoStack.UndoItem() {
-                    @Override
-                    public void undo() {
-                        edges.remove(v);
-                    }
-                });
+                dirty.add(v);
+                trail.push(v, ADD_VERTEX);
             }
         }
     }
 
+    /**
+     * Removes the vertex from "edges" and "buckets", without adding anything to the trail. Does nothing if the vertex
+     * is already gone (undoing an added edge already removes its new vertices once they have no edges left).
+     */
+    private void removeVertex(int v) {
+        if (!edges.contains(v))
+            return;
+        edges.forEachNeighbour(v, nb -> {
+            buckets.decrement(nb);
+            hash ^= edgeKey(v, nb);
+        });
+        edges.removeVertex(v);
+        buckets.remove(v);
+        hash ^= vertexKey(v);
+    }
+
     /**
      * Deletes this vertex in the graph. Also makes sure it isn`t listed as a neighbour for the other vertices
      *
@@ -67,16 +122,15 @@ public class Graph {
      */
     public void deleteVertex(Integer v) {
         if (contains(v)) {
-            for (Integer nb : edges.get(v)) {
-                undoStack.push(new UndoStack.UndoItem() {
-                    @Override
-                    public void undo() {
-                        addEdge(v, nb, false);
-                    }
-                });
-                edges.get(nb).remove(v);
-            }
-            edges.remove(v);    //delete the vertex itself
+            //one entry for the whole vertex: its neighbours, their number, the vertex and the opcode
+            int degree = edges.degree(v);
+            trail.reserve(degree + 3);
+            edges.forEachNeighbour(v, nb -> {
+                dirty.add(nb);
+                trail.push(nb);
+            });
+            trail.push(degree, v, DELETE_VERTEX);
+            removeVertex(v);    //delete the vertex itself and all of its edges
         }
     }
 
@@ -91,17 +145,19 @@ public class Graph {
         addEdge(v, w, true);
     }
 
-    private void addEdge(Integer v, Integer w, boolean addToStack) {
-        if (!v.equals(w)) {
+    private void addEdge(int v, int w, boolean addToStack) {
+        if (v != w) {
             addVertex(v, addToStack);
             addVertex(w, addToStack);
-            if ((edges.get(v).add(w) | edges.get(w).add(v)) && addToStack) {
-                undoStack.push(new UndoStack.UndoItem() {
-                    @Override
-                    public void undo() {
-                        deleteEdge(v, w, false);
-                    }
-                });
+            if (!edges.insertEdge(v, w)) {
+                return;
+            }
+            buckets.increment(v);
+            buckets.increment(w);
+            hash ^= edgeKey(v, w);
+            if (addToStack) {
+                markEdge(v, w);
+                trail.push(v, w, ADD_EDGE);
             }
         }
     }
@@ -115,46 +171,122 @@ public class Graph {
         deleteEdge(v, w, true);
     }
 
-    private void deleteEdge(Integer v, Integer w, boolean addToStack) {
+    private void deleteEdge(int v, int w, boolean addToStack) {
         if (contains(v) && contains(w)) {
-            if ((edges.get(v).remove(w) | edges.get(w).remove(v)) && addToStack) {
-                undoStack.push(new UndoStack.UndoItem() {
-                    @Override
-                    public void undo() {
-                        addEdge(v, w, false);
-                    }
-                });
+            boolean removed = edges.removeEdge(v, w);
+            if (removed) {
+                buckets.decrement(v);
+                buckets.decrement(w);
+                hash ^= edgeKey(v, w);
+            }
+            if (removed && addToStack) {
+                markEdge(v, w);
+                trail.push(v, w, DELETE_EDGE);
             }
 
-            if (edges.get(v).isEmpty()) {
-                edges.remove(v);
+            if (edges.degree(v) == 0) {
+                removeVertex(v);
             }
-            if (edges.get(w).isEmpty()) {
-                edges.remove(w);
+            if (edges.degree(w) == 0) {
+                removeVertex(w);
             }
         }
     }
 
+    /**
+     * Marks the vertices for which a rule could give a different result after the edge (v, w) was added or deleted:
+     * "v" and "w" themselves and their common neighbours, which are the only ones that see both of them.
+     */
+    private void markEdge(int v, int w) {
+        dirty.add(v);
+        dirty.add(w);
+        int small = edges.degree(v) < edges.degree(w) ? v : w;
+        int other = small == v ? w : v;
+        edges.forEachNeighbour(small, nb -> {
+            if (edges.adjacent(nb, other)) {
+                dirty.add(nb);
+            }
+        });
+    }
+
+    /**
+     * Marks every vertex as dirty, for example before the reduction rules are applied to a new graph for the first
+     * time.
+     */
+    public void markAllDirty() {
+        for (int v : edges.vertices()) {
+            dirty.add(v);
+        }
+    }
+
+    /**
+     * @return True if a vertex was changed (or is adjacent to a change) since it was returned by
+     * {@link #nextDirtyVertex()} the last time
+     */
+    public boolean hasDirtyVertices() {
+        return !dirty.isEmpty();
+    }
+
+    /**
+     * Takes one of the dirty vertices out. It may have been deleted in the meantime, so check it with
+     * {@link #contains(Integer)}.
+     *
+     * @return The ID of a dirty vertex, only call it if {@link #hasDirtyVertices()} is true
+     */
+    public int nextDirtyVertex() {
+        return dirty.poll();
+    }
+
     public boolean contains(Integer v) {
-        return edges.containsKey(v);
+        return v != null && edges.contains(v);
     }
 
     public int degree(Integer v) {
-        if (contains(v)) {
-            return edges.get(v).size();
-        }
-        return 0;
+        return v == null ? 0 : edges.degree(v);
     }
 
     public boolean adjacent(Integer v, Integer w) {
-        return contains(v) && edges.get(v).contains(w);
+        return v != null && w != null && edges.adjacent(v, w);
     }
 
+    /**
+     * @return A new set with the IDs of the neighbours of "v", which can be changed freely. In loops that only read,
+     * {@link #forEachNeighbour(int, IntConsumer)} or {@link #neighbourIterator(int)} are a lot cheaper.
+     */
     public Set<Integer> getNeighbours(Integer v) {
-        if (edges.containsKey(v)) {
-            return new HashSet<>(edges.get(v));
+        return new HashSet<>(edges.neighbours(v));
+    }
+
+    /**
+     * Calls "action" with every neighbour of "v" without copying them. "action" must not change this {@link Graph},
+     * use {@link #getNeighbourArray(int)} for that.
+     */
+    public void forEachNeighbour(int v, IntConsumer action) {
+        edges.forEachNeighbour(v, action);
+    }
+
+    /**
+     * This {@link Graph} must not be changed while the iterator is used, use {@link #getNeighbourArray(int)} for that.
+     *
+     * @return An iterator over the neighbours of "v" that doesn't copy them
+     */
+    public PrimitiveIterator.OfInt neighbourIterator(int v) {
+        return edges.neighbourIterator(v);
+    }
+
+    /**
+     * A snapshot of the neighbours that stays the same if the {@link Graph} is changed, for example to delete all of
+     * them. Only needs one int-array instead of a set of Integers.
+     *
+     * @return The IDs of all neighbours of "v", an empty array if "v" doesn't exist
+     */
+    public int[] getNeighbourArray(int v) {
+        int[] result = new int[edges.degree(v)];
+        PrimitiveIterator.OfInt it = edges.neighbourIterator(v);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = it.nextInt();
         }
-        return new HashSet<>();
+        return result;
     }
 
     /**
@@ -163,7 +295,7 @@ public class Graph {
      * @return the amount of vertices in this {@link Graph}
      */
     public int size() {
-        return edges.size();
+        return edges.vertexCount();
     }
 
     /**
@@ -172,7 +304,7 @@ public class Graph {
      * @return true, if there are no vertices in this {@link Graph}; false otherwise
      */
     public boolean isEmpty() {
-        return edges.isEmpty();
+        return edges.vertexCount() == 0;
     }
 
     /**
@@ -181,12 +313,7 @@ public class Graph {
      * @return the amount of edges in this {@link Graph}
      */
     public int getEdgeCount() {
-        int edgeCount = 0;
-        for (HashSet<Integer> set : edges.values()) {
-            edgeCount += set.size();
-        }
-        edgeCount /= 2;
-        return edgeCount;
+        return buckets.edgeCount();
     }
 
     /**
@@ -195,30 +322,86 @@ public class Graph {
      * @return true, if there are edges in this {@link Graph}; false otherwise
      */
     public boolean hasEdges() {
-        for (HashSet<Integer> set : edges.values()) {
-            if (!set.isEmpty()) {
-                return true;
-            }
-        }
-        return false;
+        return buckets.maxDegree() != 0;
+    }
+
+    /**
+     * @return The highest degree of a vertex in this {@link Graph}, 0 if there are no edges
+     */
+    public int getMaxDegree() {
+        return buckets.maxDegree();
+    }
+
+    /**
+     * Takes O(1), because the vertices are sorted into buckets by their degree.
+     *
+     * @return The ID of a vertex with the highest degree, null if the {@link Graph} is empty
+     */
+    public Integer getMaxDegreeVertex() {
+        return isEmpty() ? null : buckets.maxDegreeVertex();
+    }
+
+    /**
+     * @param d A degree, for example 0, 1 or 2 for the reduction rules
+     * @return The IDs of all vertices with exactly "d" neighbours
+     */
+    public int[] getVerticesOfDegree(int d) {
+        return buckets.vertices(d);
+    }
+
+    /**
+     * @return The ID of one vertex with exactly "d" neighbours (takes O(1)), null if there is none
+     */
+    public Integer getVertexOfDegree(int d) {
+        return buckets.count(d) == 0 ? null : buckets.first(d);
+    }
+
+    /**
+     * @return The number of vertices with exactly "d" neighbours, takes O(1)
+     */
+    public int countVerticesOfDegree(int d) {
+        return buckets.count(d);
     }
 
     /**
      * @return A set of the ID's of all the vertices (even if they are disconnected)
      */
     public Set<Integer> getVertices() {
-        return new HashSet<>(edges.keySet());
+        return edges.vertices();
     }
 
     /**
+     * Calls "action" with every vertex without copying them. "action" must not change this {@link Graph}.
+     */
+    public void forEachVertex(IntConsumer action) {
+        edges.forEachVertex(action);
+    }
+
+    /**
+     * Runs a breadth-first search on ints only, because the search tree asks this at every node.
+     *
      * @return True if every vertex has a path to every other vertex. False otherwise.
      */
     public boolean isConnected() {
         if (isEmpty()) {
             return true;
         }
-        int startPos = getVertices().iterator().next();
-        return connectedVertices(startPos).size() == size();
+        int n = size();
+        IdMap visited = new IdMap(n);
+        int[] queue = new int[n];
+        queue[0] = getMaxDegreeVertex();
+        visited.getOrAdd(queue[0]);
+        int tail = 1;
+        for (int head = 0; head < tail; head++) {
+            PrimitiveIterator.OfInt it = neighbourIterator(queue[head]);
+            while (it.hasNext()) {
+                int nb = it.nextInt();
+                if (visited.getOrAdd(nb) == tail) {     //seen for the first time
+                    queue[tail++] = nb;
+                }
+            }
+        }
+        return tail == n;
     }
 
     /**
@@ -226,9 +409,47 @@ public class Graph {
      * The edges of these vertices stay unchanged and are included in the graph.
      */
     public Graph getConnectedGraph(int startPos) {
-        Graph connGraph = new Graph();
-        connectedVertices(startPos).forEach(x -> connGraph.edges.put(x, new HashSet<>(getNeighbours(x))));
-        return connGraph;
+        return subGraph(connectedVertices(startPos));
+    }
+
+    /**
+     * @return An independent copy of this {@link Graph} with the same kind of {@link Adjacency}. The trail is
+     * not copied.
+     */
+    public Graph copy() {
+        return subGraph(edges.vertices());
+    }
+
+    /**
+     * @return A new, empty structure of the same kind as the one of this {@link Graph}
+     */
+    Adjacency emptyAdjacency() {
+        return edges.emptyCopy();
+    }
+
+    /**
+     * @param vertices Has to contain all neighbours of its vertices
+     * @return A new {@link Graph} with these vertices and their edges
+     */
+    private Graph subGraph(Set<Integer> vertices) {
+        int[] from = new int[getEdgeCount()];
+        int[] to = new int[from.length];
+        int count = 0;
+        for (int x : vertices) {
+            PrimitiveIterator.OfInt it = edges.neighbourIterator(x);
+            while (it.hasNext()) {
+                int nb = it.nextInt();
+                if (x < nb) {
+                    from[count] = x;
+                    to[count++] = nb;
+                }
+            }
+        }
+        Graph result = new Graph(edges.emptyCopy());
+        result.edges.load(from, to, count);
+        vertices.forEach(result.edges::insertVertex);   //for vertices without edges
+        result.countDegrees();
+        return result;
     }
 
     /**
@@ -242,18 +463,17 @@ public class Graph {
             return new HashSet<>();     //makes no sense if the vertex doesn't even exist
         }
 
-        HashSet<Integer> current = new HashSet<>();
+        ArrayDeque<Integer> current = new ArrayDeque<>();
         current.add(startPos);
         HashSet<Integer> visited = new HashSet<>();
+        visited.add(startPos);
 
-        while (current.size() > 0) {
-            int cur = current.iterator().next();
-            for (int nb : getNeighbours(cur)) {
-                if (!visited.contains(nb))
+        while (!current.isEmpty()) {
+            int cur = current.poll();
+            forEachNeighbour(cur, nb -> {
+                if (visited.add(nb))
                     current.add(nb);
-            }
-            current.remove(cur);
-            visited.add(cur);
+            });
         }
         return visited;
     }
@@ -262,36 +482,92 @@ public class Graph {
      * @return A set of all disjoint subGraphs.
      * If for example the graph has a "border" that separates it into 2 groups, a set of 2 Graphs is returned.
      * A singleton would therefore also be a disjoint subGraph.
-     * If the graph is connected, it returns a set containing only one element, the graph itself.
+     * If the graph is connected, it returns a set containing only one element, a copy of the graph itself.
+     * The subGraphs are new Graphs that share nothing with this one, they are all found in O(n + m) with
+     * {@link Components}.
      */
     public Set<Graph> getDisjointGraphs() {
         Set<Graph> disjointGraphs = new HashSet<>();
-        Set<Integer> verticesLeft = new HashSet<>(getVertices());
-
-        while (!verticesLeft.isEmpty()) {
-            int startPos = verticesLeft.iterator().next();
-            Graph disjointGraph = getConnectedGraph(startPos);
-            disjointGraphs.add(disjointGraph);
-            verticesLeft.removeAll(disjointGraph.getVertices());
+        Components components = new Components(this);
+        for (int c = 0; c < components.count; c++) {
+            disjointGraphs.add(components.graph(c));
         }
         return disjointGraphs;
     }
 
+    /**
+     * A Zobrist hash of the vertices and edges: the XOR of a random number for every vertex and every edge, so every
+     * change (and every step of {@link #restore(int)}) updates it in O(1). Equal graphs have equal hashes, no matter
+     * in which order their changes were made, also if one is a copy of the other.
+     *
+     * @return The hash of the current state of this {@link Graph}
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * The "random" numbers of the hash come from SplitMix64, so they don't have to be stored for every ID
+     */
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    private static long vertexKey(int v) {
+        return mix(v + 0x9E3779B97F4A7C15L);
+    }
+
+    private static long edgeKey(int v, int w) {
+        return v < w ? mix(mix(v) + w) : mix(mix(w) + v);
+    }
+
     /**
      * @return an Integer representing the current state of this {@link Graph}
      */
     public int getSafePoint() {
-        return undoStack.size();
+        return trail.size();
     }
 
     /**
      * Restores a state of this {@link Graph} saved in an Integer.
+     * If anything is undone, the dirty vertices are forgotten. The search always takes a safe point after the rules
+     * were applied, where there are none anyway.
      *
      * @param safePoint is the ID of the state this {@link Graph} will be set to
      */
     public void restore(int safePoint) {
-        while (undoStack.size() > safePoint) {
-            undoStack.pop().undo();
+        if (trail.size() > safePoint) {
+            //the marks belong to the state that is undone now
+            dirty.clear();
+        }
+        while (trail.size() > safePoint) {
+            switch (trail.pop()) {
+                case ADD_VERTEX:
+                    removeVertex(trail.pop());
+                    break;
+                case ADD_EDGE: {
+                    int w = trail.pop();
+                    deleteEdge(trail.pop(), w, false);
+                    break;
+                }
+                case DELETE_EDGE: {
+                    int w = trail.pop();
+                    addEdge(trail.pop(), w, false);
+                    break;
+                }
+                case DELETE_VERTEX: {
+                    int v = trail.pop();
+                    addVertex(v, false);
+                    for (int i = trail.pop(); i > 0; i--) {
+                        addEdge(v, trail.pop(), false);
+                    }
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("Corrupt trail");
+            }
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+package core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Writes a {@link Graph} into a compact binary file and reads it back, which is a lot faster than parsing the text
+ * file again. Because an {@link Instance} can be stored too, you can also save a graph after the reduction rules
+ * were applied (for example the result of "SearchTree.applyRules(Graph)") together with its "k" and skip the
+ * preprocessing the next time.
+ * <p>
+ * Format (all numbers are big-endian ints, except for the checksum):
+ * <ul>
+ * <li>header: magic number, version, number of vertices "n", number of stored edge directions "m2", "k",
+ * CRC32 of everything else (the header before it and the rest of the file) as a long</li>
+ * <li>the ID of every dense index (n ints)</li>
+ * <li>the offsets of the rows (n + 1 ints)</li>
+ * <li>the dense neighbours of every row in ascending order (m2 ints), every edge is stored in both directions</li>
+ * </ul>
+ * Reading maps the file into memory and copies every array in bulk, there are no objects created per edge.
+ */
+public class GraphSnapshot {
+    private static final int MAGIC = 0x56435347;    //"VCSG"
+    private static final int VERSION = 2;    //1 didn't check the header
+    private static final int HEADER_SIZE = 5 * Integer.BYTES + Long.BYTES;
+    /**
+     * How much of the file is mapped (or written) at once.
+     */
+    private static final int CHUNK_SIZE = 1 << 26;
+
+    private GraphSnapshot() {
+    }
+
+    public static void write(Graph g, File file) throws IOException {
+        write(new Instance(g, 0), file);
+    }
+
+    /**
+     * @param inst The graph of the instance is stored together with its "k"
+     * @param file The target file, it is overwritten if it already exists
+     */
+    public static void write(Instance inst, File file) throws IOException {
+        IndexedGraph g = new IndexedGraph(inst.graph);
+        int[] ids = g.ids;
+        int[] offsets = g.offsets;
+        int[] targets = g.targets;
+
+        CRC32 crc = headerChecksum(ids.length, targets.length, inst.k);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_SIZE);
+            writeInts(channel, ids, crc);
+            writeInts(channel, offsets, crc);
+            writeInts(channel, targets, crc);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(ids.length).putInt(targets.length).putInt(inst.k)
+                    .putLong(crc.getValue()).flip();
+            channel.position(0);
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        }
+    }
+
+    /**
+     * @return An {@link Instance} with the stored graph (in a {@link CsrAdjacency}) and "k"
+     * @throws IOException if the file isn't a snapshot, has a different version or is corrupt
+     */
+    public static Instance read(File file) throws IOException {
+        return read(file, new CsrAdjacency());
+    }
+
+    /**
+     * @param edges An empty {@link Adjacency} that stores the vertices and edges of the read {@link Graph}
+     * @return An {@link Instance} with the stored graph and "k"
+     * @throws IOException if the file isn't a snapshot, has a different version or is corrupt
+     */
+    public static Instance read(File file, Adjacency edges) throws IOException {
+        int[] ids;
+        int[] offsets;
+        int[] targets;
+        int k;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a graph snapshot: " + file);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a graph snapshot: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + ": " + file);
+            }
+            int n = header.getInt();
+            int m2 = header.getInt();
+            k = header.getInt();
+            long checksum = header.getLong();
+            if (channel.size() != HEADER_SIZE + (2L * n + 1 + m2) * Integer.BYTES) {
+                throw new IOException("Snapshot has the wrong size: " + file);
+            }
+
+            CRC32 crc = headerChecksum(n, m2, k);
+            long position = HEADER_SIZE;
+            ids = new int[n];
+            position = readInts(channel, position, ids, crc);
+            offsets = new int[n + 1];
+            position = readInts(channel, position, offsets, crc);
+            targets = new int[m2];
+            readInts(channel, position, targets, crc);
+            if (crc.getValue() != checksum) {
+                throw new IOException("Snapshot is corrupt (wrong checksum): " + file);
+            }
+        }
+
+        if (edges instanceof CsrAdjacency) {
+            ((CsrAdjacency) edges).loadRows(ids, offsets, targets);
+        } else {
+            int[] from = new int[targets.length / 2];
+            int[] to = new int[from.length];
+            int count = 0;
+            for (int d = 0; d < ids.length; d++) {
+                for (int s = offsets[d]; s < offsets[d + 1]; s++) {
+                    if (d < targets[s]) {
+                        from[count] = ids[d];
+                        to[count++] = ids[targets[s]];
+                    }
+                }
+            }
+            edges.load(from, to, count);
+        }
+        for (int id : ids) {
+            edges.insertVertex(id);     //for vertices without edges
+        }
+        return new Instance(new Graph(edges), k);
+    }
+
+    /**
+     * @return A checksum of the header without the checksum itself, a corrupt "k" would give a wrong K without it
+     */
+    private static CRC32 headerChecksum(int n, int m2, int k) {
+        ByteBuffer header = ByteBuffer.allocate(5 * Integer.BYTES);
+        header.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(m2).putInt(k).flip();
+        CRC32 crc = new CRC32();
+        crc.update(header);
+        return crc;
+    }
+
+    private static void writeInts(FileChannel channel, int[] values, CRC32 crc) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.min(values.length, CHUNK_SIZE / Integer.BYTES) * Integer.BYTES);
+        int pos = 0;
+        while (pos < values.length) {
+            int length = Math.min(values.length - pos, CHUNK_SIZE / Integer.BYTES);
+            buffer.clear();
+            buffer.asIntBuffer().put(values, pos, length);
+            buffer.limit(length * Integer.BYTES);
+            crc.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            pos += length;
+        }
+    }
+
+    /**
+     * @return The position in the file after the read values
+     */
+    private static long readInts(FileChannel channel, long position, int[] values, CRC32 crc) throws IOException {
+        int pos = 0;
+        while (pos < values.length) {
+            int length = Math.min(values.length - pos, CHUNK_SIZE / Integer.BYTES);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    (long) length * Integer.BYTES);
+            buffer.asIntBuffer().get(values, pos, length);
+            crc.update(buffer);
+            position += (long) length * Integer.BYTES;
+            pos += length;
+        }
+        return position;
+    }
+}
@@ -0,0 +1,134 @@
+package core;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * The default {@link Adjacency}: a {@link HashMap} that maps from the ID of a vertex to a {@link HashSet} of the IDs
+ * of its neighbours. Every vertex and every edge can be added and removed in constant time.
+ */
+public class HashAdjacency implements Adjacency {
+    private HashMap<Integer, HashSet<Integer>> edges = new HashMap<>();
+
+    @Override
+    public void load(int[] from, int[] to, int count) {
+        for (int i = 0; i < count; i++) {
+            if (from[i] != to[i]) {
+                insertVertex(from[i]);
+                insertVertex(to[i]);
+                insertEdge(from[i], to[i]);
+            }
+        }
+    }
+
+    @Override
+    public Adjacency emptyCopy() {
+        return new HashAdjacency();
+    }
+
+    @Override
+    public boolean contains(int v) {
+        return edges.containsKey(v);
+    }
+
+    @Override
+    public int degree(int v) {
+        HashSet<Integer> nbs = edges.get(v);
+        return nbs == null ? 0 : nbs.size();
+    }
+
+    @Override
+    public boolean adjacent(int v, int w) {
+        HashSet<Integer> nbs = edges.get(v);
+        return nbs != null && nbs.contains(w);
+    }
+
+    @Override
+    public int vertexCount() {
+        return edges.size();
+    }
+
+    @Override
+    public int edgeCount() {
+        int edgeCount = 0;
+        for (HashSet<Integer> set : edges.values()) {
+            edgeCount += set.size();
+        }
+        return edgeCount / 2;
+    }
+
+    @Override
+    public boolean insertVertex(int v) {
+        if (edges.containsKey(v)) {
+            return false;
+        }
+        edges.put(v, new HashSet<>());
+        return true;
+    }
+
+    @Override
+    public boolean removeVertex(int v) {
+        HashSet<Integer> nbs = edges.remove(v);
+        if (nbs == null) {
+            return false;
+        }
+        for (Integer nb : nbs) {
+            edges.get(nb).remove(v);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean insertEdge(int v, int w) {
+        return edges.get(v).add(w) | edges.get(w).add(v);
+    }
+
+    @Override
+    public boolean removeEdge(int v, int w) {
+        return edges.get(v).remove(w) | edges.get(w).remove(v);
+    }
+
+    @Override
+    public Set<Integer> neighbours(int v) {
+        HashSet<Integer> nbs = edges.get(v);
+        return nbs == null ? Collections.emptySet() : Collections.unmodifiableSet(nbs);
+    }
+
+    @Override
+    public void forEachNeighbour(int v, IntConsumer action) {
+        HashSet<Integer> nbs = edges.get(v);
+        if (nbs != null) {
+            for (int nb : nbs) {
+                action.accept(nb);
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt neighbourIterator(int v) {
+        Iterator<Integer> it = neighbours(v).iterator();
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public int nextInt() {
+                return it.next();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+        };
+    }
+
+    @Override
+    public void forEachVertex(IntConsumer action) {
+        for (int v : edges.keySet()) {
+            action.accept(v);
+        }
+    }
+
+    @Override
+    public Set<Integer> vertices() {
+        return new HashSet<>(edges.keySet());
+    }
+}
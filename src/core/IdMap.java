@@ -0,0 +1,79 @@
+package core;
+
+/**
+ * Maps the (arbitrary) IDs of vertices onto dense indices 0, 1, 2, ... without boxing them.
+ * Uses open addressing with linear probing, the indices are handed out in the order the IDs are first seen.
+ */
+class IdMap {
+    private int[] keys;
+    private int[] values;   //index + 1, 0 marks an empty slot
+    private int size;
+    private int mask;
+
+    IdMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return The index of "id" or -1 if it wasn't added yet
+     */
+    int get(int id) {
+        int pos = slot(id);
+        while (values[pos] != 0) {
+            if (keys[pos] == id) {
+                return values[pos] - 1;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @return The index of "id". If it wasn't added yet, it gets the next free index.
+     */
+    int getOrAdd(int id) {
+        int pos = slot(id);
+        while (values[pos] != 0) {
+            if (keys[pos] == id) {
+                return values[pos] - 1;
+            }
+            pos = (pos + 1) & mask;
+        }
+        keys[pos] = id;
+        values[pos] = ++size;
+        if (size * 2 > keys.length) {
+            grow();
+        }
+        return size - 1;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != 0) {
+                int pos = slot(oldKeys[i]);
+                while (values[pos] != 0) {
+                    pos = (pos + 1) & mask;
+                }
+                keys[pos] = oldKeys[i];
+                values[pos] = oldValues[i];
+            }
+        }
+    }
+
+    private int slot(int id) {
+        int h = id * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
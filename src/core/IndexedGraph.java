@@ -0,0 +1,58 @@
+package core;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+/**
+ * A read-only copy of a {@link Graph} where the vertices are numbered 0, 1, ..., n-1 (in ascending order of their IDs)
+ * and the edges are stored in compressed sparse row form: the neighbours of the vertex "i" are "targets[offsets[i]]"
+ * up to "targets[offsets[i + 1] - 1]", sorted in ascending order.
+ * <p>
+ * Algorithms that look at the whole graph many times (for example matchings) are a lot faster on these flat arrays
+ * than on the sets of a {@link Graph}. Changes to the {@link Graph} afterwards don't change the copy.
+ */
+public class IndexedGraph {
+    public final int n;
+    public final int[] ids;
+    public final int[] offsets;
+    public final int[] targets;
+    private final IdMap index;
+
+    public IndexedGraph(Graph g) {
+        n = g.size();
+        ids = new int[n];
+        int[] count = {0};
+        g.forEachVertex(v -> ids[count[0]++] = v);
+        Arrays.sort(ids);
+        index = new IdMap(n);
+        for (int id : ids) {
+            index.getOrAdd(id);
+        }
+        offsets = new int[n + 1];
+        targets = new int[2 * g.getEdgeCount()];
+        for (int i = 0; i < n; i++) {
+            int pos = offsets[i];
+            PrimitiveIterator.OfInt it = g.neighbourIterator(ids[i]);
+            while (it.hasNext()) {
+                targets[pos++] = index.get(it.nextInt());
+            }
+            Arrays.sort(targets, offsets[i], pos);
+            offsets[i + 1] = pos;
+        }
+    }
+
+    /**
+     * @return The index of the vertex with this ID, -1 if it doesn't exist
+     */
+    public int indexOf(int id) {
+        return index.get(id);
+    }
+
+    public int degree(int i) {
+        return offsets[i + 1] - offsets[i];
+    }
+
+    public int edgeCount() {
+        return targets.length / 2;
+    }
+}
@@ -12,6 +12,10 @@ package core;
 public class Instance {
     public Graph graph;
     public int k;
+    /**
+     * Gets the vertices the reduction rules take, null if only their number is needed
+     */
+    public CoverLog log;
 
     public Instance(Graph graph, int k) {
         this.graph = graph;
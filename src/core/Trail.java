@@ -0,0 +1,53 @@
+package core;
+
+import java.util.Arrays;
+
+/**
+ * The undo-information of a {@link Graph}: a stack of ints in one growable array instead of one object per change.
+ * Every change is stored as its operands followed by an opcode, so the {@link Graph} can read them backwards when it
+ * restores an older state. The size of the trail is used as the safe point.
+ */
+class Trail {
+    private int[] data = new int[256];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void push(int value) {
+        if (size == data.length) {
+            data = Arrays.copyOf(data, size * 2);
+        }
+        data[size++] = value;
+    }
+
+    void push(int a, int b) {
+        reserve(2);
+        data[size++] = a;
+        data[size++] = b;
+    }
+
+    void push(int a, int b, int c) {
+        reserve(3);
+        data[size++] = a;
+        data[size++] = b;
+        data[size++] = c;
+    }
+
+    /**
+     * Makes sure "count" more values fit without growing the array
+     */
+    void reserve(int count) {
+        if (size + count > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, size + count));
+        }
+    }
+
+    /**
+     * Removes the last value, the trail must not be empty
+     */
+    int pop() {
+        return data[--size];
+    }
+}
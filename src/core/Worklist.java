@@ -0,0 +1,65 @@
+package core;
+
+import java.util.Arrays;
+
+/**
+ * A set of vertex IDs that can be taken out one after the other, used by {@link Graph} to remember the "dirty"
+ * vertices whose neighbourhood changed. Every vertex is stored at most once. They are taken out in the order they
+ * were added (it is a queue), so a vertex that is marked again and again while it waits is only looked at once.
+ */
+class Worklist {
+    private final IdMap index = new IdMap(16);
+    private long[] queued = new long[1];    //one bit per index of "index"
+    private int[] queue = new int[16];    //ring buffer
+    private int head;
+    private int size;
+
+    /**
+     * Does nothing if "v" is already in the worklist
+     */
+    void add(int v) {
+        int i = index.getOrAdd(v);
+        if (i >>> 6 >= queued.length) {
+            queued = Arrays.copyOf(queued, Math.max(queued.length * 2, (i >>> 6) + 1));
+        }
+        long bit = 1L << i;
+        if ((queued[i >>> 6] & bit) == 0) {
+            queued[i >>> 6] |= bit;
+            if (size == queue.length) {
+                grow();
+            }
+            queue[(head + size++) & (queue.length - 1)] = v;
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes one vertex from the worklist, which must not be empty.
+     */
+    int poll() {
+        int v = queue[head];
+        head = (head + 1) & (queue.length - 1);
+        size--;
+        int i = index.get(v);
+        queued[i >>> 6] &= ~(1L << i);
+        return v;
+    }
+
+    private void grow() {
+        int[] larger = new int[queue.length * 2];
+        for (int i = 0; i < size; i++) {
+            larger[i] = queue[(head + i) & (queue.length - 1)];
+        }
+        queue = larger;
+        head = 0;
+    }
+
+    void clear() {
+        while (size > 0) {
+            poll();
+        }
+    }
+}
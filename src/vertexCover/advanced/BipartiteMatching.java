@@ -0,0 +1,158 @@
+package vertexCover.advanced;
+
+import java.util.Arrays;
+
+/**
+ * A maximum matching in a bipartite graph, calculated with the Hopcroft-Karp algorithm in O(m * sqrt(n)).
+ * The left vertices are 0 ... leftCount-1, the right vertices 0 ... rightCount-1 and the right neighbours of the left
+ * vertex "u" are "targets[offsets[u]]" up to "targets[offsets[u + 1] - 1]".
+ * <p>
+ * Everything is done on int-arrays and without recursion, so it also works on big graphs.
+ */
+class BipartiteMatching {
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final int leftCount;
+    private final int[] offsets;
+    private final int[] targets;
+    final int[] matchLeft;
+    final int[] matchRight;
+    private final int[] dist;
+    private int size;
+
+    BipartiteMatching(int leftCount, int rightCount, int[] offsets, int[] targets) {
+        this.leftCount = leftCount;
+        this.offsets = offsets;
+        this.targets = targets;
+        matchLeft = new int[leftCount];
+        matchRight = new int[rightCount];
+        Arrays.fill(matchLeft, -1);
+        Arrays.fill(matchRight, -1);
+        dist = new int[leftCount];
+
+        int[] queue = new int[leftCount];
+        int[] next = new int[leftCount];
+        int[] stack = new int[leftCount];
+        int[] via = new int[leftCount];
+        while (bfs(queue)) {
+            for (int u = 0; u < leftCount; u++) {
+                next[u] = offsets[u];
+            }
+            for (int u = 0; u < leftCount; u++) {
+                if (matchLeft[u] < 0 && augment(u, next, stack, via)) {
+                    size++;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The number of edges in the matching
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Builds the layers of the free left vertices and everything reachable from them over alternating paths.
+     *
+     * @return True if there is an augmenting path
+     */
+    private boolean bfs(int[] queue) {
+        int head = 0;
+        int tail = 0;
+        for (int u = 0; u < leftCount; u++) {
+            if (matchLeft[u] < 0) {
+                dist[u] = 0;
+                queue[tail++] = u;
+            } else {
+                dist[u] = INF;
+            }
+        }
+        boolean found = false;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int s = offsets[u]; s < offsets[u + 1]; s++) {
+                int w = matchRight[targets[s]];
+                if (w < 0) {
+                    found = true;
+                } else if (dist[w] == INF) {
+                    dist[w] = dist[u] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Searches an augmenting path from the free left vertex "root" along the layers of the last bfs, iteratively
+     * with an explicit stack. "via[i]" is the right vertex that was used to get from "stack[i]" to "stack[i + 1]".
+     */
+    private boolean augment(int root, int[] next, int[] stack, int[] via) {
+        int top = 0;
+        stack[0] = root;
+        while (top >= 0) {
+            int u = stack[top];
+            if (next[u] == offsets[u + 1]) {
+                dist[u] = INF;      //dead end, never try it again in this phase
+                top--;
+                continue;
+            }
+            int v = targets[next[u]++];
+            int w = matchRight[v];
+            if (w < 0) {
+                via[top] = v;
+                for (int i = top; i >= 0; i--) {
+                    matchLeft[stack[i]] = via[i];
+                    matchRight[via[i]] = stack[i];
+                }
+                return true;
+            }
+            if (dist[w] == dist[u] + 1) {
+                via[top] = v;
+                stack[++top] = w;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Koenig's theorem: a minimum vertex cover of a bipartite graph has as many vertices as a maximum matching.
+     * It consists of the left vertices that can NOT be reached from a free left vertex over an alternating path and
+     * the right vertices that can be reached.
+     *
+     * @param coverLeft  Is filled with true for every left vertex in the cover
+     * @param coverRight Is filled with true for every right vertex in the cover
+     */
+    void minVertexCover(boolean[] coverLeft, boolean[] coverRight) {
+        boolean[] reachedLeft = new boolean[leftCount];
+        int[] queue = new int[leftCount];
+        int head = 0;
+        int tail = 0;
+        for (int u = 0; u < leftCount; u++) {
+            if (matchLeft[u] < 0) {
+                reachedLeft[u] = true;
+                queue[tail++] = u;
+            }
+        }
+        Arrays.fill(coverRight, false);
+        while (head < tail) {
+            int u = queue[head++];
+            for (int s = offsets[u]; s < offsets[u + 1]; s++) {
+                int v = targets[s];
+                if (!coverRight[v]) {
+                    coverRight[v] = true;
+                    int w = matchRight[v];      //can't be -1, otherwise the matching wouldn't be maximum
+                    if (!reachedLeft[w]) {
+                        reachedLeft[w] = true;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+        }
+        for (int u = 0; u < leftCount; u++) {
+            coverLeft[u] = !reachedLeft[u];
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import core.IndexedGraph;
+
+/**
+ * The search tree for small graphs (see {@link SolverOptions#bitSetSize}). The vertices are numbered 0 up to n - 1
+ * and every vertex gets its neighbours as a bitset of n bits in a long[]. The edges never change, the graph of a node
+ * is only the set of vertices that are still there ("active"), also a bitset. So the degree of a vertex is the number
+ * of bits in "adjacency & active", deleting the neighbours of a vertex is "active & ~adjacency" and the graph of a
+ * node is restored by copying its few words from the frame of the node above instead of undoing every change.
+ * <p>
+ * Works like {@link BranchAndBound}: the smallest cover found so far is remembered and every node only looks for a
+ * smaller one. If it is cancelled, this cover is the result.
+ */
+class BitSetSearch {
+    private final int n;
+    private final int words;
+    private final long[][] adjacency;
+    private final long[][] frames;      //the active vertices of every depth of the search tree
+    private final SearchCounters counters;  //null without stats
+    private final CancellationToken token;
+    private int nodes;
+    private boolean cancelled;
+    private int best;
+
+    private BitSetSearch(IndexedGraph g, int limit, SearchStats stats, CancellationToken token) {
+        n = g.n;
+        words = (n + 63) >>> 6;
+        adjacency = new long[n][words];
+        for (int v = 0; v < n; v++) {
+            for (int s = g.offsets[v]; s < g.offsets[v + 1]; s++) {
+                set(adjacency[v], g.targets[s]);
+            }
+        }
+        //every node deletes at least one vertex, so the tree isn't deeper than n
+        frames = new long[n + 2][words];
+        for (int v = 0; v < n; v++) {
+            set(frames[0], v);
+        }
+        counters = stats == null ? null : stats.local();
+        this.token = token;
+        best = limit < n ? limit + 1 : n;   //taking all vertices is always a cover
+    }
+
+    /**
+     * @param g     The target graph, is not changed
+     * @param limit The biggest K the caller is interested in
+     * @param stats Counts the nodes and prunes, may be null
+     * @return K, or limit + 1 if K is bigger than "limit"
+     */
+    static int solve(Graph g, int limit, SearchStats stats) {
+        return solve(g, limit, stats, null);
+    }
+
+    /**
+     * @param token Stops the search once it is cancelled, may be null
+     * @return K, or limit + 1 if K is bigger than "limit". Only an upper bound if the search was cancelled.
+     */
+    static int solve(Graph g, int limit, SearchStats stats, CancellationToken token) {
+        BitSetSearch search = new BitSetSearch(new IndexedGraph(g), limit, stats, token);
+        search.search(0, 0);
+        return search.best;
+    }
+
+    /**
+     * @param depth The frame of this node
+     * @param taken The number of vertices already taken into the cover on the path to this node
+     */
+    private void search(int depth, int taken) {
+        if (counters != null) {
+            counters.node(depth);
+        }
+        //the nodes are so cheap that the token is only checked every 256 nodes
+        if (token != null && (++nodes & 255) == 0 && token.isCancelled()) {
+            cancelled = true;
+        }
+        if (cancelled)
+            return;
+        long[] active = frames[depth];
+        taken = reduce(active, taken);
+        if (taken >= best) {
+            if (counters != null)
+                counters.reductionPrunes++;
+            return;
+        }
+
+        int edges = 0;
+        int maxDegree = 0;
+        int bestKey = -1;
+        for (int w = 0; w < words; w++) {
+            for (long bits = active[w]; bits != 0; bits &= bits - 1) {
+                int v = (w << 6) | Long.numberOfTrailingZeros(bits);
+                int d = degree(v, active);
+                edges += d;
+                if (d > maxDegree) {
+                    maxDegree = d;
+                    bestKey = v;
+                }
+            }
+        }
+        edges /= 2;
+        if (edges == 0) {
+            best = taken;
+            return;
+        }
+        //every vertex covers at most "maxDegree" edges
+        int lower = Math.max((edges + maxDegree - 1) / maxDegree, matchingBound(active));
+        if (taken + lower >= best) {
+            if (counters != null)
+                counters.boundPrunes++;
+            return;
+        }
+        if (maxDegree <= 2) {
+            best = Math.min(best, taken + coverCycles(active));
+            return;
+        }
+
+        long[] next = frames[depth + 1];
+        System.arraycopy(active, 0, next, 0, words);
+        clear(next, bestKey);
+        search(depth + 1, taken + 1);
+
+        if (taken + maxDegree < best) {
+            long[] neighbours = adjacency[bestKey];
+            for (int w = 0; w < words; w++) {
+                next[w] = active[w] & ~neighbours[w];
+            }
+            clear(next, bestKey);
+            search(depth + 1, taken + maxDegree);
+        }
+    }
+
+    /**
+     * The reduction rules of {@link SearchTree} that don't change the edges: vertices without edges are deleted, the
+     * neighbour of a degree-one vertex and the two neighbours of a degree-two vertex in a triangle are taken, a vertex
+     * that has more neighbours than can still be taken is taken and so is every vertex that has a neighbour whose
+     * neighbours it has all (like "removeBigNeighbour").
+     *
+     * @return "taken" plus the vertices taken by the rules
+     */
+    private int reduce(long[] active, int taken) {
+        boolean changed = true;
+        while (changed && taken < best) {
+            changed = false;
+            for (int w = 0; w < words; w++) {
+                for (long bits = active[w]; bits != 0; bits &= bits - 1) {
+                    int v = (w << 6) | Long.numberOfTrailingZeros(bits);
+                    if (!contains(active, v))
+                        continue;       //deleted during this pass
+                    int d = degree(v, active);
+                    if (d == 0) {
+                        clear(active, v);
+                    } else if (d == 1) {
+                        clear(active, firstNeighbour(v, active));
+                        clear(active, v);
+                        taken++;
+                        changed = true;
+                    } else if (d >= best - taken) {
+                        clear(active, v);
+                        taken++;
+                        changed = true;
+                    } else if (d == 2) {
+                        int a = firstNeighbour(v, active);
+                        clear(active, a);
+                        int b = firstNeighbour(v, active);
+                        if (contains(adjacency[a], b)) {
+                            clear(active, b);
+                            clear(active, v);
+                            taken += 2;
+                            changed = true;
+                        } else {
+                            set(active, a);
+                        }
+                    } else if (dominates(v, active)) {
+                        clear(active, v);
+                        taken++;
+                        changed = true;
+                    }
+                    if (taken >= best)
+                        return taken;
+                }
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * @return True if "v" has a neighbour "u" whose closed neighbourhood is a subset of the one of "v"
+     */
+    private boolean dominates(int v, long[] active) {
+        long[] nv = adjacency[v];
+        for (int w = 0; w < words; w++) {
+            for (long bits = nv[w] & active[w]; bits != 0; bits &= bits - 1) {
+                int u = (w << 6) | Long.numberOfTrailingZeros(bits);
+                long[] nu = adjacency[u];
+                boolean subset = true;
+                for (int x = 0; x < words && subset; x++) {
+                    long outside = nu[x] & active[x] & ~nv[x];
+                    if (x == v >>> 6) {
+                        outside &= ~(1L << v);
+                    }
+                    subset = outside == 0;
+                }
+                if (subset)
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The size of a greedy maximal matching: every edge of it needs its own vertex in the cover
+     */
+    private int matchingBound(long[] active) {
+        long[] free = frames[frames.length - 1];
+        System.arraycopy(active, 0, free, 0, words);
+        int matching = 0;
+        for (int w = 0; w < words; w++) {
+            for (long bits = free[w]; bits != 0; bits &= bits - 1) {
+                int v = (w << 6) | Long.numberOfTrailingZeros(bits);
+                if (!contains(free, v))
+                    continue;
+                int u = firstNeighbour(v, free);
+                if (u >= 0) {
+                    clear(free, u);
+                    clear(free, v);
+                    matching++;
+                }
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * After the reduction every vertex of degree at most two has degree two and the graph is a set of disjoint
+     * cycles. A cycle of length "l" needs (l + 1) / 2 vertices.
+     */
+    private int coverCycles(long[] active) {
+        long[] left = frames[frames.length - 1];
+        System.arraycopy(active, 0, left, 0, words);
+        int cover = 0;
+        for (int w = 0; w < words; w++) {
+            while (left[w] != 0) {
+                int v = (w << 6) | Long.numberOfTrailingZeros(left[w]);
+                int length = 0;
+                while (v >= 0) {
+                    clear(left, v);
+                    length++;
+                    v = firstNeighbour(v, left);
+                }
+                cover += (length + 1) / 2;
+            }
+        }
+        return cover;
+    }
+
+    private int degree(int v, long[] active) {
+        long[] nv = adjacency[v];
+        int d = 0;
+        for (int w = 0; w < words; w++) {
+            d += Long.bitCount(nv[w] & active[w]);
+        }
+        return d;
+    }
+
+    /**
+     * @return The neighbour of "v" with the smallest number among "active", -1 if there is none
+     */
+    private int firstNeighbour(int v, long[] active) {
+        long[] nv = adjacency[v];
+        for (int w = 0; w < words; w++) {
+            long bits = nv[w] & active[w];
+            if (bits != 0) {
+                return (w << 6) | Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return -1;
+    }
+
+    private static boolean contains(long[] set, int v) {
+        return (set[v >>> 6] & (1L << v)) != 0;
+    }
+
+    private static void set(long[] set, int v) {
+        set[v >>> 6] |= 1L << v;
+    }
+
+    private static void clear(long[] set, int v) {
+        set[v >>> 6] &= ~(1L << v);
+    }
+}
@@ -0,0 +1,30 @@
+package vertexCover.advanced;
+
+/**
+ * What a search that may be cancelled knows about K: it is at least "lower" and at most "upper". Once the search
+ * finished, both are K.
+ */
+class Bounds {
+    final int lower;
+    final int upper;
+
+    Bounds(int lower, int upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    static Bounds exact(int k) {
+        return new Bounds(k, k);
+    }
+
+    Bounds plus(int change) {
+        return new Bounds(lower + change, upper + change);
+    }
+
+    /**
+     * @return The bounds of the sum of two disjoint graphs
+     */
+    Bounds plus(Bounds other) {
+        return new Bounds(lower + other.lower, upper + other.upper);
+    }
+}
@@ -0,0 +1,118 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import core.Instance;
+
+/**
+ * Finds K in one single search instead of trying K = lowerBound, lowerBound + 1, ... like "SearchTree.findK" does.
+ * <p>
+ * The best vertex cover found so far (the "incumbent", at the start the upper bound) is remembered. Every node of the
+ * search tree only looks for a cover that is smaller than the incumbent, so it is an instance with
+ * K = incumbent - 1 - (vertices already taken). If the lower bound says that this isn't possible, the node is
+ * pruned. Every time a smaller cover is found, the incumbent shrinks and with it the K of all following nodes.
+ * Because of this, failed tries don't have to be repeated like in the iterative search.
+ * If it is cancelled, the incumbent is still a valid upper bound.
+ */
+class BranchAndBound {
+    private final Graph g;
+    private final SolverOptions options;
+    private final CancellationToken token;
+    private final SearchCounters counters;      //null without stats
+    private final int lower;
+    private int best;
+
+    private BranchAndBound(Graph g, SolverOptions options, CancellationToken token) {
+        this.g = g;
+        this.options = options;
+        this.token = token;
+        counters = options.stats == null ? null : options.stats.local();
+        lower = options.lowerBound.compute(g);
+        best = LocalSearch.upperBound(g, lower, options, token);
+    }
+
+    /**
+     * @param g     The target graph, the reduction rules should already be applied. Is restored in the end.
+     * @param token Stops the search once it is cancelled, may be null
+     * @return K, or the lower bound and the incumbent if the search was cancelled
+     */
+    static Bounds solve(Graph g, SolverOptions options, CancellationToken token) {
+        BranchAndBound bnb = new BranchAndBound(g, options, token);
+        int safePoint = g.getSafePoint();
+        bnb.search(0, 0);
+        g.restore(safePoint);
+        if (token != null && token.isCancelled()) {
+            return new Bounds(Math.min(bnb.lower, bnb.best), bnb.best);
+        }
+        return Bounds.exact(bnb.best);
+    }
+
+    /**
+     * @param taken The number of vertices already taken into the cover on the path to this node
+     * @param depth The depth of this node, for the {@link SearchStats}
+     */
+    private void search(int taken, int depth) {
+        if (token != null && token.isCancelled())
+            return;
+        if (counters != null) {
+            counters.node(depth);
+        }
+        //look for a cover that is smaller than the incumbent
+        Instance inst = new Instance(g, best - 1 - taken);
+        int k = inst.k;
+        if (k < 0)
+            return;
+        SearchTree.reduce(inst, options, counters);
+        taken += k - inst.k;
+
+        if (inst.k < options.lowerBound.compute(g)) {
+            if (counters != null)
+                SearchTree.prune(counters, inst.k);
+            return;
+        }
+        if (!g.hasEdges()) {
+            best = taken;
+            return;
+        }
+        if (g.size() <= options.bitSetSize) {
+            best = Math.min(best, taken + BitSetSearch.solve(g, best - 1 - taken, options.stats, token));
+            return;
+        }
+        if (options.splitComponents && g.size() >= options.minSplitSize) {
+            Graph[] parts = SearchTree.split(g);
+            if (parts != null) {
+                //the parts are independent, so their K are added up
+                int[] lower = SearchTree.lowerBounds(parts, options);
+                int rest = 0;
+                for (int bound : lower) {
+                    rest += bound;
+                }
+                for (int i = 0; i < parts.length; i++) {
+                    rest -= lower[i];
+                    taken += SearchTree.findK(parts[i], best - 1 - taken - rest, options, null, token);
+                    if (taken + rest >= best)
+                        return;
+                }
+                if (token != null && token.isCancelled())
+                    return;     //the K of a cancelled part is only its lower bound
+                best = taken;
+                return;
+            }
+        }
+
+        int bestKey = GraphUtil.maxDegreeID(g);
+        int safePoint = g.getSafePoint();
+        g.deleteVertex(bestKey);
+        search(taken + 1, depth + 1);
+        g.restore(safePoint);
+
+        //the incumbent may be smaller now, so this branch gets a smaller K
+        if (taken + g.degree(bestKey) < best) {
+            int degree = g.degree(bestKey);
+            for (int nb : g.getNeighbourArray(bestKey)) {
+                g.deleteVertex(nb);
+            }
+            search(taken + degree, depth + 1);
+        }
+        g.restore(safePoint);
+    }
+}
@@ -0,0 +1,52 @@
+package vertexCover.advanced;
+
+/**
+ * Tells a running search that it can stop. The search checks the token in every node of the search tree and
+ * returns as fast as possible once it is cancelled. A token can also cancel itself at a deadline (see
+ * {@link #withTimeout(long)}), or together with the token it was created from.
+ */
+public class CancellationToken {
+    private volatile boolean cancelled;
+    private final long deadline;        //System.nanoTime() at which it cancels itself, only if "timed"
+    private final boolean timed;
+    private final CancellationToken parent;
+
+    public CancellationToken() {
+        this(null, 0, false);
+    }
+
+    /**
+     * A token that is also cancelled once "parent" is
+     */
+    CancellationToken(CancellationToken parent) {
+        this(parent, 0, false);
+    }
+
+    private CancellationToken(CancellationToken parent, long deadline, boolean timed) {
+        this.parent = parent;
+        this.deadline = deadline;
+        this.timed = timed;
+    }
+
+    /**
+     * @param millis The time until the token cancels itself
+     */
+    public static CancellationToken withTimeout(long millis) {
+        return new CancellationToken(null, System.nanoTime() + millis * 1_000_000, true);
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        if (cancelled) {
+            return true;
+        }
+        if ((timed && System.nanoTime() - deadline > 0) || (parent != null && parent.isCancelled())) {
+            cancelled = true;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,249 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import core.IndexedGraph;
+
+import java.util.Arrays;
+
+/**
+ * The canonical form of a small graph (at most {@link #MAX_SIZE} vertices): the adjacency matrix of the graph with
+ * its vertices in a canonical order, one long per row. Two graphs have equal forms if and only if they are isomorphic,
+ * so it is a key for {@link ComponentCache} without any risk of collisions.
+ * <p>
+ * The order is found by individualization and refinement, like nauty does it without the automorphism pruning. The
+ * vertices are sorted into ordered cells, first by degree. A cell is split by how many neighbours its vertices have in
+ * every cell, again and again until nothing changes (an equitable partition). If a cell is still left with more than
+ * one vertex, every vertex of the first smallest such cell is tried as the first vertex of it and the result with the
+ * smallest matrix wins. Only if all vertices of the cell are twins (they have the same neighbours apart from each
+ * other, like in a clique), one of them is enough. Everything only depends on the structure of the graph and not on
+ * the IDs, so isomorphic graphs get the same matrix.
+ */
+final class CanonicalForm {
+    /**
+     * Every row of the matrix is one long
+     */
+    static final int MAX_SIZE = 64;
+
+    /**
+     * Very symmetric graphs (for example hypercubes) have many orders to try, they get no form after this many nodes
+     * of the search
+     */
+    private static final int MAX_NODES = 256;
+
+    private final int n;
+    private final long[] rows;
+    private final int hash;
+
+    private CanonicalForm(int n, long[] rows) {
+        this.n = n;
+        this.rows = rows;
+        this.hash = 31 * Arrays.hashCode(rows) + n;
+    }
+
+    /**
+     * @param g The target graph, is not changed
+     * @return The form, null if "g" is too big or too symmetric
+     */
+    static CanonicalForm of(Graph g) {
+        if (g.size() > MAX_SIZE) {
+            return null;
+        }
+        Search search = new Search(new IndexedGraph(g));
+        return search.run() ? new CanonicalForm(search.n, search.best) : null;
+    }
+
+    int size() {
+        return n;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof CanonicalForm))
+            return false;
+        CanonicalForm other = (CanonicalForm) o;
+        return n == other.n && hash == other.hash && Arrays.equals(rows, other.rows);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * The search for the smallest matrix. A partition is an order of the vertices "order" and the start of the cell of
+     * every position "cellStart", a cell ends where the next one starts.
+     */
+    private static class Search {
+        private final int n;
+        private final long[] adjacency;
+        private long[] best;
+        private int nodes;
+
+        Search(IndexedGraph g) {
+            n = g.n;
+            adjacency = new long[n];
+            for (int v = 0; v < n; v++) {
+                for (int s = g.offsets[v]; s < g.offsets[v + 1]; s++) {
+                    adjacency[v] |= 1L << g.targets[s];
+                }
+            }
+        }
+
+        /**
+         * @return False if it gave up after {@link #MAX_NODES} nodes
+         */
+        boolean run() {
+            int[] order = new int[n];
+            int[] cellStart = new int[n];
+            int[] degree = new int[n];
+            for (int v = 0; v < n; v++) {
+                order[v] = v;
+                degree[v] = Long.bitCount(adjacency[v]);
+            }
+            sortCell(order, cellStart, 0, n, degree);
+            return search(order, cellStart);
+        }
+
+        private boolean search(int[] order, int[] cellStart) {
+            if (++nodes > MAX_NODES)
+                return false;
+            refine(order, cellStart);
+            int target = -1;
+            int targetSize = Integer.MAX_VALUE;
+            for (int start = 0; start < n; ) {
+                int end = cellEnd(cellStart, start);
+                if (end - start > 1 && end - start < targetSize) {
+                    target = start;
+                    targetSize = end - start;
+                }
+                start = end;
+            }
+            if (target < 0) {
+                leaf(order);
+                return true;
+            }
+
+            int tries = twins(order, target, target + targetSize) ? 1 : targetSize;
+            for (int i = 0; i < tries; i++) {
+                int[] nextOrder = order.clone();
+                int[] nextStart = cellStart.clone();
+                //the chosen vertex is moved to the front of the cell and gets a cell of its own
+                nextOrder[target] = order[target + i];
+                nextOrder[target + i] = order[target];
+                for (int p = target + 1; p < target + targetSize; p++) {
+                    nextStart[p] = target + 1;
+                }
+                if (!search(nextOrder, nextStart))
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * Splits the cells until every vertex of a cell has the same number of neighbours in every cell
+         */
+        private void refine(int[] order, int[] cellStart) {
+            int[] count = new int[n];
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (int splitter = 0; splitter < n; ) {
+                    int splitterEnd = cellEnd(cellStart, splitter);
+                    long members = 0;
+                    for (int p = splitter; p < splitterEnd; p++) {
+                        members |= 1L << order[p];
+                    }
+                    for (int v = 0; v < n; v++) {
+                        count[v] = Long.bitCount(adjacency[v] & members);
+                    }
+                    for (int start = 0; start < n; ) {
+                        int end = cellEnd(cellStart, start);
+                        if (end - start > 1 && sortCell(order, cellStart, start, end, count)) {
+                            changed = true;
+                        }
+                        start = end;
+                    }
+                    splitter = splitterEnd;
+                }
+            }
+        }
+
+        /**
+         * @return True if the cell is a clique or has no edges and all of its vertices have the same neighbours
+         * outside of it, so any of them can be swapped with any other
+         */
+        private boolean twins(int[] order, int start, int end) {
+            long cell = 0;
+            for (int p = start; p < end; p++) {
+                cell |= 1L << order[p];
+            }
+            long outside = adjacency[order[start]] & ~cell;
+            int inside = Long.bitCount(adjacency[order[start]] & cell);
+            if (inside != 0 && inside != end - start - 1)
+                return false;
+            for (int p = start + 1; p < end; p++) {
+                long a = adjacency[order[p]];
+                if ((a & ~cell) != outside || Long.bitCount(a & cell) != inside)
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * Sorts the vertices of a cell by "key" and splits it where the key changes
+         *
+         * @return True if the cell was split
+         */
+        private static boolean sortCell(int[] order, int[] cellStart, int start, int end, int[] key) {
+            //insertion sort, the cells are tiny
+            for (int i = start + 1; i < end; i++) {
+                int v = order[i];
+                int j = i - 1;
+                while (j >= start && key[order[j]] > key[v]) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = v;
+            }
+            boolean split = false;
+            for (int i = start + 1; i < end; i++) {
+                if (key[order[i]] != key[order[i - 1]]) {
+                    split = true;
+                    for (int p = i; p < end && cellStart[p] == cellStart[i - 1]; p++) {
+                        cellStart[p] = i;
+                    }
+                }
+            }
+            return split;
+        }
+
+        private int cellEnd(int[] cellStart, int start) {
+            int end = start + 1;
+            while (end < n && cellStart[end] == start) {
+                end++;
+            }
+            return end;
+        }
+
+        /**
+         * Every cell is a single vertex, so "order" is an order of all vertices. Keeps its matrix if it is smaller.
+         */
+        private void leaf(int[] order) {
+            int[] position = new int[n];
+            for (int p = 0; p < n; p++) {
+                position[order[p]] = p;
+            }
+            long[] rows = new long[n];
+            for (int p = 0; p < n; p++) {
+                for (long bits = adjacency[order[p]]; bits != 0; bits &= bits - 1) {
+                    rows[p] |= 1L << position[Long.numberOfTrailingZeros(bits)];
+                }
+            }
+            if (best == null || Arrays.compare(rows, best) < 0) {
+                best = rows;
+            }
+        }
+    }
+}
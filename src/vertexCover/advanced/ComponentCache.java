@@ -0,0 +1,139 @@
+package vertexCover.advanced;
+
+import core.Graph;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers K of small (sub-)graphs. Pass it with {@link SolverOptions#componentCache} to
+ * {@link SearchTree#minVertexCover(Graph, SolverOptions)}: every disjoint subGraph and every part of a split in the
+ * search tree with at most {@link #getMaxComponentSize()} vertices is looked up by its {@link CanonicalForm} before it
+ * is solved, so the same small subGraphs (which are common in sparse graphs, and in the search tree the same parts
+ * come up again and again) are only solved once. The same cache can be used for many graphs.
+ * <p>
+ * At most "capacity" graphs are stored, the one that wasn't used for the longest time is dropped first. It can be used
+ * by many threads at once.
+ */
+public class ComponentCache {
+    private final int capacity;
+    private final int maxComponentSize;
+    private final Map<CanonicalForm, Integer> map;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    /**
+     * @param capacity         The number of graphs that are stored at most
+     * @param maxComponentSize Bigger graphs are never looked up, at most {@link CanonicalForm#MAX_SIZE}
+     */
+    public ComponentCache(int capacity, int maxComponentSize) {
+        if (maxComponentSize > CanonicalForm.MAX_SIZE) {
+            throw new IllegalArgumentException("Graphs with more than " + CanonicalForm.MAX_SIZE
+                    + " vertices can't be cached!");
+        }
+        this.capacity = capacity;
+        this.maxComponentSize = maxComponentSize;
+        //access order: "get" moves an entry to the end, so the eldest one is the least recently used
+        map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CanonicalForm, Integer> eldest) {
+                return size() > ComponentCache.this.capacity;
+            }
+        };
+    }
+
+    public ComponentCache() {
+        this(100_000, 32);
+    }
+
+    /**
+     * @param g The target graph, is not changed
+     * @return The key of "g", null if it isn't cached because it is too big or too symmetric
+     */
+    CanonicalForm key(Graph g) {
+        if (g.size() > maxComponentSize) {
+            return null;
+        }
+        CanonicalForm key = CanonicalForm.of(g);
+        if (key == null) {
+            skipped.increment();
+        }
+        return key;
+    }
+
+    /**
+     * @return K of the graph, null if it isn't stored
+     */
+    Integer get(CanonicalForm key) {
+        Integer k;
+        synchronized (map) {
+            k = map.get(key);
+        }
+        (k == null ? misses : hits).increment();
+        return k;
+    }
+
+    void put(CanonicalForm key, int k) {
+        synchronized (map) {
+            map.put(key, k);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getMaxComponentSize() {
+        return maxComponentSize;
+    }
+
+    /**
+     * @return The number of graphs stored now
+     */
+    public int size() {
+        synchronized (map) {
+            return map.size();
+        }
+    }
+
+    /**
+     * @return How many graphs were found in the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return How many graphs were looked up but weren't in the cache
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return How many small graphs had too many orders to try for a {@link CanonicalForm}
+     */
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    /**
+     * Removes all graphs and sets the counters to 0
+     */
+    public void clear() {
+        synchronized (map) {
+            map.clear();
+        }
+        hits.reset();
+        misses.reset();
+        skipped.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d of %d graphs, %d hits, %d misses, %d skipped", size(), capacity, getHits(),
+                getMisses(), getSkipped());
+    }
+}
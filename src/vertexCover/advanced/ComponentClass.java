@@ -0,0 +1,30 @@
+package vertexCover.advanced;
+
+/**
+ * The kinds of graphs whose K is found without a search tree, see {@link SpecialClasses}. A graph is put into the
+ * first class that fits.
+ */
+public enum ComponentClass {
+    /**
+     * Every vertex has at most two neighbours: a path of "p" vertices needs p / 2, a cycle of length "l" needs
+     * (l + 1) / 2
+     */
+    PATHS_AND_CYCLES,
+    /**
+     * No cycles, solved by taking the neighbour of a leaf again and again
+     */
+    FOREST,
+    /**
+     * No odd cycles, K is the size of a maximum matching (Koenig's theorem)
+     */
+    BIPARTITE,
+    /**
+     * A tree decomposition of at most {@link SolverOptions#maxTreeWidth} was found, solved with dynamic programming
+     * over it (see {@link TreeDecomposition})
+     */
+    LOW_TREEWIDTH,
+    /**
+     * Needs the search tree
+     */
+    GENERAL
+}
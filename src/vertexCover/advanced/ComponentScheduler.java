@@ -0,0 +1,119 @@
+package vertexCover.advanced;
+
+import core.Graph;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Solves the disjoint subGraphs of a graph. They don't depend on each other, so with a pool every big subGraph is
+ * its own task. The biggest ones are started first, so one giant subGraph doesn't start last and keeps the other
+ * threads waiting in the end. All small subGraphs (see {@link SolverOptions#smallComponentSize}) are solved in one
+ * batch in the calling thread, a task for each of them would cost more than solving it.
+ */
+class ComponentScheduler {
+
+    private ComponentScheduler() {
+    }
+
+    /**
+     * @param components The disjoint subGraphs
+     * @param pool       Runs the subGraphs on multiple threads, null to solve them in the calling thread
+     * @return The sum of K of all subGraphs
+     */
+    static int solve(Iterable<Graph> components, SolverOptions options, ForkJoinPool pool) {
+        return solve(components, options, pool, null).lower;
+    }
+
+    /**
+     * @param token Stops the search once it is cancelled, may be null
+     * @return The sums of the bounds of all subGraphs, both are K if the search wasn't cancelled
+     */
+    static Bounds solve(Iterable<Graph> components, SolverOptions options, ForkJoinPool pool,
+                        CancellationToken token) {
+        List<Graph> list = new ArrayList<>();
+        components.forEach(list::add);
+        Bounds result = Bounds.exact(0);
+        for (Bounds k : solveEach(list, options, pool, token)) {
+            result = result.plus(k);
+        }
+        return result;
+    }
+
+    /**
+     * Like {@link #solve(Iterable, SolverOptions, ForkJoinPool, CancellationToken)}, but keeps the bounds of every
+     * subGraph. The subGraphs are changed by the search (the reduction rules), take a safe point to get them back.
+     *
+     * @return The bounds of every subGraph, in the same order
+     */
+    static Bounds[] solveEach(List<Graph> components, SolverOptions options, ForkJoinPool pool,
+                              CancellationToken token) {
+        Bounds[] result = new Bounds[components.size()];
+        List<Integer> big = new ArrayList<>();
+        List<Integer> small = new ArrayList<>();
+        for (int i = 0; i < result.length; i++) {
+            (components.get(i).size() < options.smallComponentSize ? small : big).add(i);
+        }
+        big.sort(Comparator.comparingLong((Integer i) -> weight(components.get(i))).reversed());
+
+        List<ForkJoinTask<Bounds>> tasks = new ArrayList<>();
+        for (int i : big) {
+            Graph g = components.get(i);
+            if (pool == null) {
+                result[i] = timedFindK(g, options, null, token);
+            } else {
+                tasks.add(pool.submit(() -> timedFindK(g, options, pool, token)));
+            }
+        }
+        solveSmall(components, small, result, options, token);     //while the pool works on the big ones
+        for (int t = 0; t < tasks.size(); t++) {
+            result[big.get(t)] = tasks.get(t).join();
+        }
+        return result;
+    }
+
+    /**
+     * @param small  The positions of the small subGraphs in "components"
+     * @param result Gets the bounds of the small subGraphs
+     */
+    private static void solveSmall(List<Graph> components, List<Integer> small, Bounds[] result,
+                                   SolverOptions options, CancellationToken token) {
+        if (small.isEmpty()) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        int k = 0;
+        int vertices = 0;
+        int edges = 0;
+        for (int i : small) {
+            Graph g = components.get(i);
+            vertices += g.size();
+            edges += g.getEdgeCount();
+            result[i] = SearchTree.bounds(g, Integer.MAX_VALUE, options, null, token);
+            k += result[i].lower;
+        }
+        if (options.componentTimes != null) {
+            options.componentTimes.add(new ComponentTimes.Entry(small.size(), vertices, edges, k,
+                    System.nanoTime() - startTime));
+        }
+    }
+
+    private static Bounds timedFindK(Graph g, SolverOptions options, ForkJoinPool pool, CancellationToken token) {
+        long startTime = System.nanoTime();
+        int vertices = g.size();
+        int edges = g.getEdgeCount();
+        Bounds k = SearchTree.bounds(g, Integer.MAX_VALUE, options, pool, token);
+        if (options.componentTimes != null) {
+            options.componentTimes.add(new ComponentTimes.Entry(1, vertices, edges, k.lower,
+                    System.nanoTime() - startTime));
+        }
+        return k;
+    }
+
+    private static long weight(Graph g) {
+        return (long) g.size() + g.getEdgeCount();
+    }
+}
@@ -0,0 +1,64 @@
+package vertexCover.advanced;
+
+import core.Graph;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Collects how long each disjoint subGraph took to solve. Pass it with {@link SolverOptions#componentTimes} to
+ * {@link SearchTree#minVertexCover(Graph, SolverOptions)}. The small subGraphs that are solved together in one batch
+ * get one entry for the whole batch.
+ */
+public class ComponentTimes {
+
+    public static class Entry {
+        /**
+         * The number of subGraphs of this entry, only greater than 1 for the batch of small subGraphs.
+         */
+        public final int components;
+        public final int vertices;
+        public final int edges;
+        public final int k;
+        public final long nanos;
+
+        Entry(int components, int vertices, int edges, int k, long nanos) {
+            this.components = components;
+            this.vertices = vertices;
+            this.edges = edges;
+            this.k = k;
+            this.nanos = nanos;
+        }
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    synchronized void add(Entry entry) {
+        entries.add(entry);
+    }
+
+    /**
+     * @return All entries, the slowest one first
+     */
+    public synchronized List<Entry> getEntries() {
+        List<Entry> result = new ArrayList<>(entries);
+        result.sort(Comparator.comparingLong((Entry e) -> e.nanos).reversed());
+        return result;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-12s%-12s%-12s%-12s%s%n", "Components", "Vertices", "Edges", "K", "Millis"));
+        for (Entry e : getEntries()) {
+            sb.append(String.format("%-12d%-12d%-12d%-12d%.3f%n", e.components, e.vertices, e.edges, e.k,
+                    e.nanos / 1_000_000.0));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,99 @@
+package vertexCover.advanced;
+
+import core.CoverLog;
+import core.Graph;
+import core.Instance;
+
+/**
+ * Finds the vertices of a cover once its size is known. The search of {@link SearchTree} only counts vertices, so
+ * {@link SearchTree#solve(Graph, SolverOptions, CancellationToken)} runs one more try of the iterative search for
+ * every part of the kernel with its K. In this try the reduction rules and the branches write what they take into the
+ * {@link CoverLog} of the instance, and a branch that fails forgets it again. Because K is already known, the try
+ * succeeds and most of the work is the one path to the cover.
+ * <p>
+ * For a split, K of every part but the biggest one is found first with "SearchTree.findK", the biggest one gets what
+ * is left. Then the cover of every part is looked for with its K.
+ */
+class CoverSearch {
+
+    private CoverSearch() {
+    }
+
+    /**
+     * @param inst  The graph and how many vertices may be taken, its {@link Instance#log} gets the taken vertices.
+     *              The graph is changed, take a safe point to get it back.
+     * @param token Stops the search (returns false) once it is cancelled, may be null
+     * @return True if a cover with at most "inst.k" vertices was found and written into the log
+     */
+    static boolean solve(Instance inst, SolverOptions options, CancellationToken token) {
+        if (token != null && token.isCancelled())
+            return false;
+        SearchTree.applyRules(inst, null);
+
+        if (inst.k < options.lowerBound.compute(inst.graph))
+            return false;
+        if (!inst.graph.hasEdges())
+            return true;
+
+        if (options.splitComponents && inst.graph.size() >= options.minSplitSize) {
+            Graph[] parts = SearchTree.split(inst.graph);
+            if (parts != null)
+                return solveParts(parts, inst, options, token);
+        }
+
+        int bestKey = GraphUtil.maxDegreeID(inst.graph);
+
+        int safePoint = inst.graph.getSafePoint();
+        int logSize = inst.log.size();
+        int safeK = inst.k;
+        inst.graph.deleteVertex(bestKey);
+        inst.log.take(bestKey);
+        inst.k -= 1;
+
+        if (solve(inst, options, token)) {
+            return true;
+        }
+
+        inst.graph.restore(safePoint);
+        inst.log.truncate(logSize);
+        inst.k = safeK - inst.graph.degree(bestKey);
+        for (int nb : inst.graph.getNeighbourArray(bestKey)) {
+            inst.graph.deleteVertex(nb);
+            inst.log.take(nb);
+        }
+        return solve(inst, options, token);
+    }
+
+    /**
+     * @param parts The disjoint parts of the graph of "inst", the biggest one last (see {@link SearchTree#split})
+     */
+    private static boolean solveParts(Graph[] parts, Instance inst, SolverOptions options, CancellationToken token) {
+        int[] lower = SearchTree.lowerBounds(parts, options);
+        int rest = 0;
+        for (int bound : lower) {
+            rest += bound;
+        }
+        int last = parts.length - 1;
+        int[] k = new int[parts.length];
+        int left = inst.k;
+        for (int i = 0; i < last; i++) {
+            rest -= lower[i];
+            //the search changes the part, its cover is looked for on the part as it was
+            int safePoint = parts[i].getSafePoint();
+            k[i] = SearchTree.findK(parts[i], left - rest, options, null, token);
+            parts[i].restore(safePoint);
+            left -= k[i];
+            if (left < rest)
+                return false;
+        }
+        k[last] = left;
+
+        for (int i = 0; i <= last; i++) {
+            Instance part = new Instance(parts[i], k[i]);
+            part.log = inst.log;
+            if (!solve(part, options, token))
+                return false;
+        }
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package vertexCover.advanced;
 
+import core.IndexedGraph;
 import core.Instance;
 import core.Graph;
 
@@ -16,25 +17,16 @@ public class GraphUtil {
     /**
      * @param g The target graph.
      * @return The ID of a vertex with maximum degree (number of neighbours). If there are multiple vertices with
-     * a maximum degree, this method picks an arbitrary vertex of them, because it uses an iterator which goes through
-     * the vertices in a order we can't influence.
+     * a maximum degree, this method picks an arbitrary vertex of them. Takes O(1), see {@link Graph#getMaxDegreeVertex()}.
      */
     public static Integer maxDegreeID(Graph g) {
-        Integer bestKey = null;
-        int maxDegree = 0;
-        for (int key : g.getVertices()) {
-            int degree = g.degree(key);
-            if (bestKey == null || degree > maxDegree) {
-                bestKey = key;
-                maxDegree = degree;
-            }
-        }
-        return bestKey;
+        return g.getMaxDegreeVertex();
     }
 
     /**
-     * This method uses an iterator through the vertices. Therefore, if you don't change the graph, if you call this method
-     * 2 times in a row, it will return the same pair both times. Therefore it does NOT return a random pair.
+     * This method takes a vertex with the smallest degree (that is bigger than 0) and one of its neighbours. Therefore,
+     * if you don't change the graph, if you call this method 2 times in a row, it will return the same pair both times.
+     * Therefore it does NOT return a random pair.
      * <p>
      * This method is used as utility for other methods who need a pair of vertices that are connected.
      *
@@ -42,10 +34,10 @@ public class GraphUtil {
      * @return A pair of vertices (an int-array of size 2 containing their ID's)
      */
     private static int[] anyPair(Graph g) {
-        for (int key : g.getVertices()) {
-            if (g.getNeighbours(key).size() > 0) {
-                Iterator<Integer> it = g.getNeighbours(key).iterator();
-                return new int[]{key, it.next()};
+        for (int d = 1; d <= g.getMaxDegree(); d++) {
+            Integer key = g.getVertexOfDegree(d);
+            if (key != null) {
+                return new int[]{key, g.neighbourIterator(key).nextInt()};
             }
         }
         return null;    //normally doesn't happen
@@ -74,6 +66,17 @@ public class GraphUtil {
         return k;
     }
 
+    /**
+     * Like {@link #getUpperBound(Graph)}, but returns the cover itself and improves it with a {@link LocalSearch}.
+     *
+     * @param g      The target graph, is not changed
+     * @param millis The time budget of the local search, 0 for the greedy cover of {@link #getUpperBound(Graph)}
+     * @return The IDs of the vertices of a vertex cover, its size is an upper bound
+     */
+    public static int[] getUpperBoundCover(Graph g, long millis) {
+        return LocalSearch.cover(g, getMatchingBound(g), millis);
+    }
+
     /**
      * @param g          The graph we want to test. Does NOT need to be a copy (is copied inside of method).
      * @param applyRules This method doesn't work unless triangles are removed beforehand. If the reduction rules
@@ -103,4 +106,74 @@ public class GraphUtil {
         g.restore(safePoint);
         return min + change;
     }
+
+    /**
+     * Finds a maximum matching with augmenting paths (Hopcroft-Karp) in the bipartite double cover of the graph. Half of
+     * its size is the optimum of the LP relaxation of vertex cover (a maximum fractional matching), which is at least
+     * as big as any matching in the graph itself. Every vertex cover needs at least this many vertices.
+     *
+     * @param g The target graph, is not changed
+     * @return A value that is lower or equal to any valid K for a vertex cover.
+     */
+    public static int getMatchingBound(Graph g) {
+        IndexedGraph ig = new IndexedGraph(g);
+        BipartiteMatching matching = new BipartiteMatching(ig.n, ig.n, ig.offsets, ig.targets);
+        return (matching.size() + 1) / 2;
+    }
+
+    /**
+     * Splits the vertices greedily into disjoint cliques: every vertex (the ones with a small degree first) joins the
+     * biggest clique of which it is adjacent to all vertices, or starts a new one. A vertex cover needs at least
+     * n-1 vertices of every clique of size n, so the sum of these values is a lower bound. Unlike a matching, this
+     * also counts triangles and bigger cliques correctly.
+     *
+     * @param g The target graph, is not changed
+     * @return A value that is lower or equal to any valid K for a vertex cover.
+     */
+    public static int getCliqueCoverBound(Graph g) {
+        IndexedGraph ig = new IndexedGraph(g);
+        int n = ig.n;
+        //sort the vertices by degree (counting sort)
+        int[] start = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            start[ig.degree(i) + 1]++;
+        }
+        for (int d = 0; d < n; d++) {
+            start[d + 1] += start[d];
+        }
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[start[ig.degree(i)]++] = i;
+        }
+
+        int[] cliqueOf = new int[n];
+        int[] cliqueSize = new int[n];
+        int[] count = new int[n];       //the number of neighbours of the current vertex in each clique
+        int[] touched = new int[n];
+        Arrays.fill(cliqueOf, -1);
+        int cliques = 0;
+        for (int v : order) {
+            int touchedCount = 0;
+            for (int s = ig.offsets[v]; s < ig.offsets[v + 1]; s++) {
+                int c = cliqueOf[ig.targets[s]];
+                if (c >= 0 && count[c]++ == 0) {
+                    touched[touchedCount++] = c;
+                }
+            }
+            int best = -1;
+            for (int i = 0; i < touchedCount; i++) {
+                int c = touched[i];
+                if (count[c] == cliqueSize[c] && (best < 0 || cliqueSize[c] > cliqueSize[best])) {
+                    best = c;
+                }
+                count[c] = 0;
+            }
+            if (best < 0) {
+                best = cliques++;
+            }
+            cliqueOf[v] = best;
+            cliqueSize[best]++;
+        }
+        return n - cliques;
+    }
 }
\ No newline at end of file
@@ -1,57 +1,450 @@
 package vertexCover.advanced;
 
+import core.CoverLog;
 import core.Graph;
+import core.IndexedGraph;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
+/**
+ * Finds hypercubes in a graph: the rectangles (4-cycles without chords) are the cubes of dimension 2, and two cubes
+ * of the same dimension whose vertices are matched one to one by edges (so that the edges of one are matched with the
+ * edges of the other) are a cube of the next dimension.
+ * <p>
+ * The search works on the dense numbers of an {@link IndexedGraph}. The rectangles are found with degree-ordered wedge
+ * counting: every rectangle is found exactly once from its vertex "u" with the highest degree (the rank), as two
+ * wedges "u - v - w" that end in the same vertex "w". The wedges of "u" are packed into longs "w << 32 | v" and
+ * sorted, so the wedges with the same end are next to each other. Every vertex only needs its own wedges, so the
+ * vertices are looked at in parallel. The cubes of the next dimension are found by mapping every cube along the edges
+ * of one of its vertices and looking the image up by its signature (the XOR of a random number of every vertex),
+ * instead of comparing every pair of cubes.
+ */
 class HyperCubes {
+    /**
+     * The biggest cubes {@link #apply(Graph)} looks for, they have 2^16 vertices
+     */
+    static final int MAX_DIMENSION = 16;
 
     /**
-     * Goes through every vertex, checks for 2 neighbours that aren't connected and looks if they are connected to
-     * another 4th vertex.
-     *
      * @param g The target graph
      * @return A set of all rectangles in the graph (a circle of size 4). The rectangle may NOT have connections
      * between two opposing vertices
      */
     static Set<Set<Integer>> getRects(Graph g) {
+        IndexedGraph indexed = new IndexedGraph(g);
+        return toIds(indexed, toCubes(rectangles(indexed, Integer.MAX_VALUE)));
+    }
+
+    /**
+     * @param oldCubes The cubes of one dimension, for example from {@link #getRects(Graph)}
+     * @return The cubes of the next dimension
+     */
+    static Set<Set<Integer>> getHigherDimHyperCubes(Graph g, Set<Set<Integer>> oldCubes) {
+        IndexedGraph indexed = new IndexedGraph(g);
+        int[][] cubes = new int[oldCubes.size()][];
+        int count = 0;
+        for (Set<Integer> cube : oldCubes) {
+            int[] vertices = new int[cube.size()];
+            int i = 0;
+            for (int id : cube) {
+                vertices[i++] = indexed.indexOf(id);
+            }
+            Arrays.sort(vertices);
+            cubes[count++] = vertices;
+        }
+        return toIds(indexed, higherDimCubes(indexed, cubes));
+    }
+
+    private static Set<Set<Integer>> toIds(IndexedGraph g, int[][] cubes) {
         Set<Set<Integer>> result = new HashSet<>();
-        for (int key : g.getVertices()) {
+        for (int[] cube : cubes) {
+            Set<Integer> ids = new HashSet<>();
+            for (int v : cube) {
+                ids.add(g.ids[v]);
+            }
+            result.add(ids);
+        }
+        return result;
+    }
 
-            for (int a : g.getNeighbours(key)) {
-                for (int b : g.getNeighbours(key)) {
-                    if (!g.adjacent(a, b) && a != b) {
+    /**
+     * @param maxDegree Only the rectangles with two opposite vertices of at most this degree are needed, so only the
+     *                  wedges with such a middle vertex are looked at. If the vertex with the highest rank is one of
+     *                  them, all four have at most this degree.
+     * @return The rectangles one after the other, 4 vertices each in the order of the cycle
+     */
+    static int[] rectangles(IndexedGraph g, int maxDegree) {
+        int n = g.n;
+        //the rank of a vertex is its position when sorted by degree
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(g::degree));
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[order[i]] = i;
+        }
+
+        int[][] found = IntStream.range(0, n).parallel().mapToObj(u -> rectanglesOf(g, rank, maxDegree, u))
+                .toArray(int[][]::new);
+        int size = 0;
+        for (int[] rects : found) {
+            size += rects.length;
+        }
+        int[] result = new int[size];
+        int pos = 0;
+        for (int[] rects : found) {
+            System.arraycopy(rects, 0, result, pos, rects.length);
+            pos += rects.length;
+        }
+        return result;
+    }
+
+    /**
+     * @return The rectangles in which "u" has the highest rank
+     */
+    private static int[] rectanglesOf(IndexedGraph g, int[] rank, int maxDegree, int u) {
+        int count = 0;
+        for (int s = g.offsets[u]; s < g.offsets[u + 1]; s++) {
+            int v = g.targets[s];
+            if (rank[v] < rank[u] && g.degree(v) <= maxDegree) {
+                count += g.degree(v);
+            }
+        }
+        long[] wedges = new long[count];
+        count = 0;
+        for (int s = g.offsets[u]; s < g.offsets[u + 1]; s++) {
+            int v = g.targets[s];
+            if (rank[v] >= rank[u] || g.degree(v) > maxDegree)
+                continue;
+            for (int t = g.offsets[v]; t < g.offsets[v + 1]; t++) {
+                int w = g.targets[t];
+                if (rank[w] < rank[u]) {
+                    wedges[count++] = (long) w << 32 | v;
+                }
+            }
+        }
+        Arrays.sort(wedges, 0, count);
 
-                        for (int fourth : g.getNeighbours(a)) {
-                            if (g.adjacent(fourth, b) && !g.adjacent(key, fourth) && fourth != key) {
-                                result.add(new HashSet<>(Arrays.asList(key, a, b, fourth)));
+        int[] result = new int[0];
+        int size = 0;
+        for (int start = 0; start < count; ) {
+            int w = (int) (wedges[start] >>> 32);
+            int end = start + 1;
+            while (end < count && (int) (wedges[end] >>> 32) == w) {
+                end++;
+            }
+            //every pair of wedges with the same end is a 4-cycle, a rectangle if it has no chords
+            if (end - start > 1 && !adjacent(g, u, w)) {
+                for (int i = start; i < end; i++) {
+                    int a = (int) wedges[i];
+                    for (int j = i + 1; j < end; j++) {
+                        int b = (int) wedges[j];
+                        if (!adjacent(g, a, b)) {
+                            if (size + 4 > result.length) {
+                                result = Arrays.copyOf(result, Math.max(16, result.length * 2));
                             }
+                            result[size++] = u;
+                            result[size++] = a;
+                            result[size++] = w;
+                            result[size++] = b;
                         }
                     }
                 }
             }
+            start = end;
         }
-        return result;
+        return Arrays.copyOf(result, size);
     }
 
-    static Set<Set<Integer>> getHigherDimHyperCubes(Graph g, Set<Set<Integer>> oldCubes) {
-        Set<Set<Integer>> result = new HashSet<>();
+    /**
+     * @param rects The rectangles from {@link #rectangles(IndexedGraph, int)}
+     * @return Every rectangle as a sorted array of its vertices
+     */
+    static int[][] toCubes(int[] rects) {
+        int[][] cubes = new int[rects.length / 4][];
+        for (int i = 0; i < cubes.length; i++) {
+            cubes[i] = Arrays.copyOfRange(rects, 4 * i, 4 * i + 4);
+            Arrays.sort(cubes[i]);
+        }
+        return cubes;
+    }
+
+    /**
+     * @param cubes The cubes of one dimension, every one a sorted array of its vertices
+     * @return The cubes of the next dimension, sorted the same way
+     */
+    static int[][] higherDimCubes(IndexedGraph g, int[][] cubes) {
+        Map<Long, List<int[]>> known = new HashMap<>();
+        for (int[] cube : cubes) {
+            known.computeIfAbsent(signature(cube), s -> new ArrayList<>()).add(cube);
+        }
+        int[][][] found = IntStream.range(0, cubes.length).parallel()
+                .mapToObj(i -> higherCubesOf(g, cubes[i], known)).toArray(int[][][]::new);
+
+        //every cube of the next dimension is found from both of its halves and in every direction
+        Map<Long, List<int[]>> result = new HashMap<>();
+        List<int[]> list = new ArrayList<>();
+        for (int[][] higher : found) {
+            for (int[] cube : higher) {
+                if (!contains(result, cube)) {
+                    result.computeIfAbsent(signature(cube), s -> new ArrayList<>()).add(cube);
+                    list.add(cube);
+                }
+            }
+        }
+        return list.toArray(new int[0][]);
+    }
 
-        for (Set<Integer> setA : oldCubes) {
-            for (Set<Integer> setB : oldCubes) {
-                if (setA != setB) {
+    /**
+     * Maps "cube" along every edge that leaves it from its vertex with the fewest neighbours (every vertex of the cube
+     * has an edge into the other half of a cube of the next dimension)
+     *
+     * @param known All cubes of the dimension of "cube" by their signature, is not changed
+     * @return The cubes of the next dimension that "cube" is a half of
+     */
+    private static int[][] higherCubesOf(IndexedGraph g, int[] cube, Map<Long, List<int[]>> known) {
+        List<int[]> result = new ArrayList<>();
+        int start = 0;
+        for (int p = 1; p < cube.length; p++) {
+            if (g.degree(cube[p]) < g.degree(cube[start])) {
+                start = p;
+            }
+        }
+        for (int s = g.offsets[cube[start]]; s < g.offsets[cube[start] + 1]; s++) {
+            int image = g.targets[s];
+            if (Arrays.binarySearch(cube, image) >= 0)
+                continue;
+            int[] mapping = mapping(g, cube, start, image);
+            if (mapping == null)
+                continue;
+            int[] other = mapping.clone();
+            Arrays.sort(other);
+            if (contains(known, other) && isHyperConnection(g, cube, mapping, other)) {
+                int[] union = new int[2 * cube.length];
+                System.arraycopy(cube, 0, union, 0, cube.length);
+                System.arraycopy(other, 0, union, cube.length, other.length);
+                Arrays.sort(union);
+                result.add(union);
+            }
+        }
+        return result.toArray(new int[0][]);
+    }
 
-                    Map<Integer, Integer> map = vertexMapping(g, setA, setB);
-                    if (hasHyperConnection(g, map, setA)) {
-                        HashSet<Integer> cube = new HashSet<>();
-                        cube.addAll(setA);
-                        cube.addAll(setB);
-                        result.add(cube);
+    /**
+     * Every neighbour "x" of an already mapped vertex "p" of the cube is mapped to the only common neighbour of "x"
+     * and the image of "p" outside of the cube (in a hypercube, "p" is the only other one).
+     *
+     * @param start The position of the vertex in the cube that is mapped to "image"
+     * @return The image of every vertex of the cube (in the same order), null if there is no such mapping
+     */
+    private static int[] mapping(IndexedGraph g, int[] cube, int start, int image) {
+        int[] mapping = new int[cube.length];
+        Arrays.fill(mapping, -1);
+        mapping[start] = image;
+        int[] queue = new int[cube.length];
+        queue[0] = start;
+        int tail = 1;
+        for (int head = 0; head < tail; head++) {
+            int p = queue[head];
+            for (int q = 0; q < cube.length; q++) {
+                if (mapping[q] >= 0 || !adjacent(g, cube[p], cube[q]))
+                    continue;
+                //the common neighbours, from the one with fewer neighbours
+                int a = g.degree(cube[q]) < g.degree(mapping[p]) ? cube[q] : mapping[p];
+                int b = a == cube[q] ? mapping[p] : cube[q];
+                int z = -1;
+                for (int t = g.offsets[a]; t < g.offsets[a + 1]; t++) {
+                    int c = g.targets[t];
+                    if (Arrays.binarySearch(cube, c) < 0 && adjacent(g, c, b)) {
+                        if (z >= 0)
+                            return null;    //not unique
+                        z = c;
                     }
                 }
+                if (z < 0)
+                    return null;
+                mapping[q] = z;
+                queue[tail++] = q;
             }
         }
-        return result;
+        return tail == cube.length ? mapping : null;
+    }
+
+    /**
+     * Like {@link #vertexMapping(Graph, Set, Set)} and {@link #hasHyperConnection(Graph, Map, Set)} together
+     *
+     * @param other The sorted images of "mapping"
+     * @return True if the cubes don't overlap, every vertex has exactly one neighbour in the other cube (its image)
+     * and the edges of "cube" are mapped to edges
+     */
+    private static boolean isHyperConnection(IndexedGraph g, int[] cube, int[] mapping, int[] other) {
+        for (int i = 0; i < other.length; i++) {
+            if (Arrays.binarySearch(cube, other[i]) >= 0 || (i > 0 && other[i] == other[i - 1]))
+                return false;
+        }
+        for (int p = 0; p < cube.length; p++) {
+            if (countIn(g, cube[p], other) != 1 || countIn(g, mapping[p], cube) != 1)
+                return false;
+            for (int q = p + 1; q < cube.length; q++) {
+                if (adjacent(g, cube[p], cube[q]) && !adjacent(g, mapping[p], mapping[q]))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The number of neighbours of "v" in the sorted array "set"
+     */
+    private static int countIn(IndexedGraph g, int v, int[] set) {
+        int count = 0;
+        if (g.degree(v) > set.length) {
+            for (int w : set) {
+                if (adjacent(g, v, w)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        for (int s = g.offsets[v]; s < g.offsets[v + 1]; s++) {
+            if (Arrays.binarySearch(set, g.targets[s]) >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return The XOR of a random number of every vertex, the same for every order of the vertices
+     */
+    private static long signature(int[] cube) {
+        long signature = 0;
+        for (int v : cube) {
+            long x = v + 0x9E3779B97F4A7C15L;
+            x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+            x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+            signature ^= x ^ (x >>> 31);
+        }
+        return signature;
+    }
+
+    private static boolean contains(Map<Long, List<int[]>> cubes, int[] cube) {
+        List<int[]> candidates = cubes.get(signature(cube));
+        if (candidates != null) {
+            for (int[] candidate : candidates) {
+                if (Arrays.equals(candidate, cube))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The rows of an {@link IndexedGraph} are sorted, so the shorter one is searched
+     */
+    private static boolean adjacent(IndexedGraph g, int a, int b) {
+        if (g.degree(a) > g.degree(b)) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        return Arrays.binarySearch(g.targets, g.offsets[a], g.offsets[a + 1], b) >= 0;
+    }
+
+    /**
+     * A hypercube is bipartite, the vertices of one half are independent and the other half are all their
+     * neighbours in the cube. If one half has no neighbours outside of the cube, the edges of the cube are a perfect
+     * matching between the halves and the half is a crown: the other half can always be taken into the cover.
+     * <p>
+     * A vertex of such a half has as many neighbours as the dimension of the cube, so only the rectangles with two
+     * opposite vertices of at most {@link #MAX_DIMENSION} neighbours are needed. The cubes of all dimensions are found
+     * first, then the biggest ones are reduced first.
+     *
+     * @param g The target graph
+     * @return The number of vertices that were taken
+     */
+    static int apply(Graph g) {
+        return apply(g, null);
+    }
+
+    /**
+     * @param log Gets the vertices that are taken, may be null
+     */
+    static int apply(Graph g, CoverLog log) {
+        IndexedGraph indexed = new IndexedGraph(g);
+        List<int[][]> dimensions = new ArrayList<>();
+        int[][] cubes = toCubes(rectangles(indexed, MAX_DIMENSION));
+        while (cubes.length > 0) {
+            dimensions.add(cubes);
+            cubes = higherDimCubes(indexed, cubes);
+        }
+
+        int taken = 0;
+        for (int d = dimensions.size() - 1; d >= 0; d--) {
+            for (int[] cube : dimensions.get(d)) {
+                taken += reduce(g, indexed, cube, log);
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * @return The number of vertices that were taken, 0 if neither half of the cube has only neighbours in the cube
+     */
+    private static int reduce(Graph g, IndexedGraph indexed, int[] cube, CoverLog log) {
+        for (int v : cube) {
+            if (!g.contains(indexed.ids[v]))
+                return 0;       //an earlier cube took a part of it
+        }
+        //the two halves: a breadth-first search inside the cube, the neighbours of a vertex are in the other half
+        boolean[] second = new boolean[cube.length];
+        boolean[] seen = new boolean[cube.length];
+        int[] queue = new int[cube.length];
+        seen[0] = true;
+        int tail = 1;
+        for (int head = 0; head < tail; head++) {
+            int p = queue[head];
+            for (int s = indexed.offsets[cube[p]]; s < indexed.offsets[cube[p] + 1]; s++) {
+                int q = Arrays.binarySearch(cube, indexed.targets[s]);
+                if (q >= 0 && !seen[q]) {
+                    seen[q] = true;
+                    second[q] = !second[p];
+                    queue[tail++] = q;
+                }
+            }
+        }
+        for (boolean half : new boolean[]{false, true}) {
+            if (onlyNeighboursIn(g, indexed, cube, second, half)) {
+                for (int p = 0; p < cube.length; p++) {
+                    g.deleteVertex(indexed.ids[cube[p]]);
+                    if (log != null && second[p] != half)
+                        log.take(indexed.ids[cube[p]]);     //the other half
+                }
+                return cube.length / 2;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return True if all neighbours of the vertices of one half are in the other half of the cube
+     */
+    private static boolean onlyNeighboursIn(Graph g, IndexedGraph indexed, int[] cube, boolean[] second,
+                                            boolean half) {
+        for (int p = 0; p < cube.length; p++) {
+            if (second[p] != half)
+                continue;
+            PrimitiveIterator.OfInt it = g.neighbourIterator(indexed.ids[cube[p]]);
+            while (it.hasNext()) {
+                int q = Arrays.binarySearch(cube, indexed.indexOf(it.nextInt()));
+                if (q < 0 || second[q] == half)
+                    return false;
+            }
+        }
+        return true;
     }
 
     static Map<Integer, Integer> vertexMapping(Graph g, Set<Integer> setA, Set<Integer> setB) {
@@ -85,7 +478,9 @@ class HyperCubes {
      */
     static boolean hasHyperConnection(Graph g, Map<Integer, Integer> map, Set<Integer> set) {
         for (int a : set) {
-            for (int b : g.getNeighbours(a)) {
+            PrimitiveIterator.OfInt it = g.neighbourIterator(a);
+            while (it.hasNext()) {
+                int b = it.nextInt();
                 if (set.contains(b) && !g.adjacent(map.get(a), map.get(b))) {    //only neighbours in set
                     return false;
                 }
@@ -119,7 +514,7 @@ class HyperCubes {
         boolean firstIsolated = true, secondIsolated = true;
 
         for (int i : ll.get(0)) {
-            for (int nb : g.getNeighbours(i)) {
+            for (int nb : g.getNeighbourArray(i)) {
                 if (!hCube.contains(nb)) {
                     firstIsolated = false;
                     break;
@@ -127,7 +522,7 @@ class HyperCubes {
             }
         }
         for (int i : ll.get(1)) {
-            for (int nb : g.getNeighbours(i)) {
+            for (int nb : g.getNeighbourArray(i)) {
                 if (!hCube.contains(nb)) {
                     secondIsolated = false;
                     break;
@@ -136,4 +531,4 @@ class HyperCubes {
         }
         return firstIsolated || secondIsolated;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package vertexCover.advanced;
+
+import core.CoverLog;
+import core.Graph;
+import core.IndexedGraph;
+
+/**
+ * Reduction rule based on the linear program of the vertex cover problem (Nemhauser-Trotter / crown reduction).
+ * <p>
+ * The LP gives every vertex a value 0, 1/2 or 1 so that the two vertices of every edge add up to at least 1.
+ * An optimal solution of it is found with a maximum matching in the bipartite double cover of the graph (every vertex
+ * "v" becomes a left vertex and a right vertex and every edge "vw" becomes the two edges "v-w'" and "w-v'"). A minimum
+ * vertex cover of the double cover (Koenig's theorem) gives every vertex 0, 1 or 2 of its copies, which is halved to get
+ * the LP values.
+ * <p>
+ * Nemhauser and Trotter showed that there is always a minimum vertex cover that contains all vertices with the value 1
+ * and none with the value 0. So all of them can be removed from the graph and only the vertices with 1/2 are left.
+ */
+class LPKernel {
+
+    private LPKernel() {
+    }
+
+    /**
+     * Removes all vertices with the LP value 0 or 1.
+     *
+     * @param g The target graph, the changes can be undone with its safe points
+     * @return The number of removed vertices with value 1, by this amount K has to be reduced
+     */
+    static int apply(Graph g) {
+        return apply(g, null);
+    }
+
+    /**
+     * @param log Gets the vertices that are taken, may be null
+     */
+    static int apply(Graph g, CoverLog log) {
+        IndexedGraph ig = new IndexedGraph(g);
+        BipartiteMatching matching = new BipartiteMatching(ig.n, ig.n, ig.offsets, ig.targets);
+        boolean[] left = new boolean[ig.n];
+        boolean[] right = new boolean[ig.n];
+        matching.minVertexCover(left, right);
+
+        int taken = 0;
+        for (int i = 0; i < ig.n; i++) {
+            if (left[i] && right[i]) {
+                g.deleteVertex(ig.ids[i]);
+                if (log != null)
+                    log.take(ig.ids[i]);
+                taken++;
+            }
+        }
+        for (int i = 0; i < ig.n; i++) {
+            if (!left[i] && !right[i]) {
+                g.deleteVertex(ig.ids[i]);     //all of its neighbours had value 1 and are already deleted
+            }
+        }
+        return taken;
+    }
+}
@@ -0,0 +1,313 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import core.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Improves the greedy upper bound of {@link GraphUtil#getUpperBound(Graph)} with a local search in the style of
+ * NuMVC / FastVC. It starts with the greedy cover and, every time it is a cover, removes one vertex and tries to repair
+ * the cover again by swapping vertices: one vertex leaves the cover and one end of a random uncovered edge joins it.
+ * <ul>
+ * <li>Edge weighting: every step the weight of all uncovered edges grows, so edges that stay uncovered for long get
+ * more important. "dscore" of a vertex is the weight it would cover (or uncover) by joining (or leaving) the cover.
+ * When the average weight gets too big, all weights are scaled down (forgotten).</li>
+ * <li>Configuration checking: a vertex that left the cover may only join it again after one of its neighbours
+ * changed, which prevents going back and forth between the same covers.</li>
+ * </ul>
+ * Everything is stored in arrays indexed by the dense numbers of an {@link IndexedGraph}. The search runs until the
+ * time budget is used up, the cover reaches the lower bound or it didn't find a smaller cover for a long time.
+ */
+class LocalSearch {
+    private static final int SAMPLES = 50;       //vertices that are compared to choose the one that leaves the cover
+    private static final double FORGET = 0.3;
+
+    private final IndexedGraph g;
+    private final int[] edgeOf;     //the edge of every slot of "g.targets"
+    private final int[] from;       //the two ends of every edge
+    private final int[] to;
+    private final int[] weight;
+    private long totalWeight;
+    private final long[] dscore;
+    private final boolean[] inCover;
+    private final boolean[] allowed;        //configuration checking
+    private final long[] changed;          //the step in which a vertex joined or left the cover last
+    private final int[] cover;
+    private final int[] coverPos;
+    private int coverSize;
+    private final int[] uncovered;
+    private final int[] uncoveredPos;
+    private int uncoveredSize;
+    private final Random random = new Random(0);
+
+    private LocalSearch(IndexedGraph g) {
+        this.g = g;
+        int n = g.n;
+        int m = g.edgeCount();
+        edgeOf = new int[g.targets.length];
+        from = new int[m];
+        to = new int[m];
+        int edges = 0;
+        for (int v = 0; v < n; v++) {
+            for (int s = g.offsets[v]; s < g.offsets[v + 1]; s++) {
+                int t = g.targets[s];
+                if (v < t) {
+                    from[edges] = v;
+                    to[edges] = t;
+                    edgeOf[s] = edges;
+                    //the rows are sorted, so the slot of "v" in the row of "t" can be searched
+                    edgeOf[Arrays.binarySearch(g.targets, g.offsets[t], g.offsets[t + 1], v)] = edges;
+                    edges++;
+                }
+            }
+        }
+        weight = new int[m];
+        Arrays.fill(weight, 1);
+        totalWeight = m;
+        dscore = new long[n];
+        inCover = new boolean[n];
+        allowed = new boolean[n];
+        Arrays.fill(allowed, true);
+        changed = new long[n];
+        cover = new int[n];
+        coverPos = new int[n];
+        uncovered = new int[m];
+        uncoveredPos = new int[m];
+        for (int e = 0; e < m; e++) {
+            uncovered[e] = e;
+            uncoveredPos[e] = e;
+            dscore[from[e]]++;
+            dscore[to[e]]++;
+        }
+        uncoveredSize = m;
+    }
+
+    /**
+     * @param g          The target graph, is not changed
+     * @param lowerBound The search stops once the cover is this small
+     * @param millis     The time budget, 0 for only the greedy cover
+     * @return The IDs of the vertices of the smallest cover found, never bigger than the greedy cover
+     */
+    static int[] cover(Graph g, int lowerBound, long millis) {
+        return cover(g, lowerBound, millis, null);
+    }
+
+    /**
+     * @param token Stops the search once it is cancelled, then the rest of the greedy cover is every vertex that still
+     *              has edges. May be null.
+     */
+    static int[] cover(Graph g, int lowerBound, long millis, CancellationToken token) {
+        LocalSearch search = new LocalSearch(new IndexedGraph(g));
+        int[] best = greedyCover(g, search.g, token);
+        if (millis > 0 && (token == null || !token.isCancelled())) {
+            best = search.run(best, lowerBound, System.nanoTime() + millis * 1_000_000, token);
+        }
+        int[] ids = new int[best.length];
+        for (int i = 0; i < best.length; i++) {
+            ids[i] = search.g.ids[best[i]];
+        }
+        return ids;
+    }
+
+    /**
+     * @return The upper bound of {@link GraphUtil#getUpperBound(Graph)} or, if {@link SolverOptions#upperBoundMillis}
+     * is set, the size of the cover of the local search
+     */
+    static int upperBound(Graph g, int lowerBound, SolverOptions options) {
+        return upperBound(g, lowerBound, options, null);
+    }
+
+    /**
+     * @param token Stops the local search once it is cancelled, may be null
+     */
+    static int upperBound(Graph g, int lowerBound, SolverOptions options, CancellationToken token) {
+        if (options.upperBoundMillis <= 0 || !g.hasEdges()) {
+            return GraphUtil.getUpperBound(g);
+        }
+        return cover(g, lowerBound, options.upperBoundMillis, token).length;
+    }
+
+    /**
+     * The same cover as {@link GraphUtil#getUpperBound(Graph)}: the vertex with the maximum degree is taken until no
+     * edges are left.
+     *
+     * @return The dense numbers of the vertices of the cover
+     */
+    private static int[] greedyCover(Graph g, IndexedGraph indexed, CancellationToken token) {
+        int safePoint = g.getSafePoint();
+        int[] result = new int[g.size()];
+        int count = 0;
+        while (g.hasEdges()) {
+            if (token != null && (count & 255) == 255 && token.isCancelled()) {
+                for (int v = 0; v < indexed.n; v++) {
+                    int id = indexed.ids[v];
+                    if (g.contains(id) && g.degree(id) > 0) {
+                        result[count++] = v;
+                        g.deleteVertex(id);
+                    }
+                }
+                break;
+            }
+            int max = g.getMaxDegreeVertex();
+            result[count++] = indexed.indexOf(max);
+            g.deleteVertex(max);
+        }
+        g.restore(safePoint);
+        return Arrays.copyOf(result, count);
+    }
+
+    private int[] run(int[] start, int lowerBound, long deadline, CancellationToken token) {
+        for (int v : start) {
+            add(v);
+        }
+        int[] best = start;
+        //without a smaller cover for this many steps, it probably won't find one anymore
+        long patience = 100L * g.n + 10_000;
+        long lastImprovement = 0;
+        for (long step = 1; ; step++) {
+            if (uncoveredSize == 0) {
+                if (coverSize < best.length) {
+                    best = Arrays.copyOf(cover, coverSize);
+                    lastImprovement = step;
+                }
+                if (coverSize <= lowerBound)
+                    break;
+                //look for a cover with one vertex less
+                int v = bestInCover(false);
+                remove(v, step);
+                continue;
+            }
+            if ((step & 255) == 0 && (System.nanoTime() > deadline || step - lastImprovement > patience
+                    || (token != null && token.isCancelled())))
+                break;
+
+            if (coverSize > 0) {
+                remove(bestInCover(true), step);
+            }
+
+            int e = uncovered[random.nextInt(uncoveredSize)];
+            int joining = chooseEnd(from[e], to[e]);
+            add(joining);
+            changed[joining] = step;
+            allowNeighbours(joining);
+
+            //the edges that are still uncovered get heavier
+            for (int i = 0; i < uncoveredSize; i++) {
+                int u = uncovered[i];
+                weight[u]++;
+                dscore[from[u]]++;
+                dscore[to[u]]++;
+            }
+            totalWeight += uncoveredSize;
+            if (totalWeight > (long) weight.length * Math.max(50, g.n / 2)) {
+                forget();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @param sample True to compare only some random vertices (like FastVC), false to look at the whole cover
+     * @return The vertex of the cover whose removal uncovers the least weight, the older one if they are equal
+     */
+    private int bestInCover(boolean sample) {
+        int best = -1;
+        int count = sample ? Math.min(SAMPLES, coverSize) : coverSize;
+        for (int i = 0; i < count; i++) {
+            int v = cover[sample && coverSize > SAMPLES ? random.nextInt(coverSize) : i];
+            if (best < 0 || dscore[v] > dscore[best] || (dscore[v] == dscore[best] && changed[v] < changed[best])) {
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return The end of the uncovered edge that may join the cover (configuration checking) and covers more weight
+     */
+    private int chooseEnd(int a, int b) {
+        if (!allowed[a])
+            return b;
+        if (!allowed[b])
+            return a;
+        if (dscore[a] != dscore[b])
+            return dscore[a] > dscore[b] ? a : b;
+        return changed[a] <= changed[b] ? a : b;
+    }
+
+    private void add(int v) {
+        inCover[v] = true;
+        coverPos[v] = coverSize;
+        cover[coverSize++] = v;
+        dscore[v] = -dscore[v];
+        for (int s = g.offsets[v]; s < g.offsets[v + 1]; s++) {
+            int u = g.targets[s];
+            int e = edgeOf[s];
+            if (inCover[u]) {
+                dscore[u] += weight[e];     //"u" doesn't cover it alone anymore
+            } else {
+                dscore[u] -= weight[e];
+                removeUncovered(e);
+            }
+        }
+    }
+
+    private void remove(int v, long step) {
+        inCover[v] = false;
+        int last = cover[--coverSize];
+        cover[coverPos[v]] = last;
+        coverPos[last] = coverPos[v];
+        dscore[v] = -dscore[v];
+        for (int s = g.offsets[v]; s < g.offsets[v + 1]; s++) {
+            int u = g.targets[s];
+            int e = edgeOf[s];
+            if (inCover[u]) {
+                dscore[u] -= weight[e];     //"u" covers it alone now
+            } else {
+                dscore[u] += weight[e];
+                uncoveredPos[e] = uncoveredSize;
+                uncovered[uncoveredSize++] = e;
+            }
+        }
+        changed[v] = step;
+        allowed[v] = false;
+        allowNeighbours(v);
+    }
+
+    /**
+     * The neighbours of "v" changed, so they may join the cover again
+     */
+    private void allowNeighbours(int v) {
+        for (int s = g.offsets[v]; s < g.offsets[v + 1]; s++) {
+            allowed[g.targets[s]] = true;
+        }
+    }
+
+    private void removeUncovered(int e) {
+        int last = uncovered[--uncoveredSize];
+        uncovered[uncoveredPos[e]] = last;
+        uncoveredPos[last] = uncoveredPos[e];
+    }
+
+    /**
+     * Scales all weights down, so edges that were hard to cover long ago don't count as much as the current ones
+     */
+    private void forget() {
+        Arrays.fill(dscore, 0);
+        totalWeight = 0;
+        for (int e = 0; e < weight.length; e++) {
+            weight[e] = Math.max(1, (int) (weight[e] * FORGET));
+            totalWeight += weight[e];
+            boolean a = inCover[from[e]];
+            boolean b = inCover[to[e]];
+            if (!a && !b) {
+                dscore[from[e]] += weight[e];
+                dscore[to[e]] += weight[e];
+            } else if (a != b) {
+                dscore[a ? from[e] : to[e]] -= weight[e];
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package vertexCover.advanced;
+
+import core.Graph;
+
+/**
+ * A heuristic that calculates a value that is lower or equal to the minimum vertex cover of a graph. The search
+ * uses the one set in {@link SolverOptions#lowerBound} to prune branches and to start the search for K.
+ * The reduction rules should already be applied to the graph.
+ */
+public interface LowerBound {
+    /**
+     * The greedy matching of {@link GraphUtil#getLowerBound(Graph, boolean)}.
+     */
+    LowerBound GREEDY_MATCHING = g -> GraphUtil.getLowerBound(g, false);
+
+    /**
+     * See {@link GraphUtil#getMatchingBound(Graph)}.
+     */
+    LowerBound MATCHING = GraphUtil::getMatchingBound;
+
+    /**
+     * See {@link GraphUtil#getCliqueCoverBound(Graph)}.
+     */
+    LowerBound CLIQUE_COVER = GraphUtil::getCliqueCoverBound;
+
+    /**
+     * The maximum of the matching and the clique cover bound.
+     */
+    LowerBound BEST = max(MATCHING, CLIQUE_COVER);
+
+    /**
+     * @param g The target graph, is not changed
+     * @return A value that is lower or equal to any valid K for a vertex cover of "g"
+     */
+    int compute(Graph g);
+
+    /**
+     * @return A bound that calculates all given bounds and returns the biggest value
+     */
+    static LowerBound max(LowerBound... bounds) {
+        return g -> {
+            int max = 0;
+            for (LowerBound bound : bounds) {
+                max = Math.max(max, bound.compute(g));
+            }
+            return max;
+        };
+    }
+}
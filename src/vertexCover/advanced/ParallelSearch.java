@@ -0,0 +1,136 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import core.Instance;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs the search tree of {@link SearchTree} on multiple threads. At every node above the cutoff (see
+ * {@link SolverOptions#forkDepth} and {@link SolverOptions#minForkSize}) the branch that deletes the neighbours of the
+ * max-degree vertex gets its own copy of the graph and is forked into the {@link ForkJoinPool}, idle threads steal
+ * these branches. As soon as one branch finds a solution for K, all other branches are cancelled.
+ * If the graph of a node falls apart (see {@link SolverOptions#splitComponents}), K of every smaller part is found in
+ * its own task and the biggest part goes on with what is left.
+ */
+class ParallelSearch extends RecursiveTask<Boolean> {
+    private static final long serialVersionUID = 1L;
+
+    private final Instance inst;
+    private final int depth;
+    private final SolverOptions options;
+    private final CancellationToken solved;
+    private final int tryK;         //the K of the root, for the SearchStats
+
+    private ParallelSearch(Instance inst, int depth, SolverOptions options, CancellationToken solved, int tryK) {
+        this.inst = inst;
+        this.depth = depth;
+        this.options = options;
+        this.solved = solved;
+        this.tryK = tryK;
+    }
+
+    /**
+     * Parallel version of "SearchTree.solveI".
+     *
+     * @param inst Target Instance. Does NOT need to be a copy.
+     * @param pool  The pool that runs the branches
+     * @param token Stops the search (returns false) once it is cancelled, may be null
+     * @return True if solvable for the value K stored in the instance.
+     */
+    static boolean solve(Instance inst, SolverOptions options, ForkJoinPool pool, CancellationToken token) {
+        return pool.invoke(new ParallelSearch(inst, 0, options, new CancellationToken(token), inst.k));
+    }
+
+    @Override
+    protected Boolean compute() {
+        SearchCounters counters = options.stats == null ? null : options.stats.local();
+        if (counters == null) {
+            return search(null);
+        }
+        //while it waits for a join, the thread may run a task of another try
+        int outerTry = counters.tryK;
+        counters.tryK = tryK;
+        try {
+            return search(counters);
+        } finally {
+            counters.tryK = outerTry;
+        }
+    }
+
+    private boolean search(SearchCounters counters) {
+        if (depth >= options.forkDepth || inst.graph.size() < options.minForkSize) {
+            return found(SearchTree.solveI(inst, options, solved, depth));
+        }
+        if (solved.isCancelled()) {
+            return false;
+        }
+        if (counters != null) {
+            counters.node(depth);
+        }
+
+        SearchTree.reduce(inst, options, counters);
+
+        int minK = options.lowerBound.compute(inst.graph);
+        if (inst.k < minK) {
+            if (counters != null)
+                SearchTree.prune(counters, inst.k);
+            return false;
+        }
+        if (!inst.graph.hasEdges())
+            return found(true);
+
+        if (options.splitComponents && inst.graph.size() >= options.minSplitSize) {
+            Graph[] parts = SearchTree.split(inst.graph);
+            if (parts != null)
+                return solveParts(parts);
+        }
+
+        int bestKey = GraphUtil.maxDegreeID(inst.graph);
+
+        //the second branch works on its own copy, so it can run in another thread
+        Instance neighboursDeleted = new Instance(inst.graph.copy(), inst.k - inst.graph.degree(bestKey));
+        inst.graph.forEachNeighbour(bestKey, neighboursDeleted.graph::deleteVertex);
+        ParallelSearch fork = new ParallelSearch(neighboursDeleted, depth + 1, options, solved, tryK);
+        fork.fork();
+
+        inst.graph.deleteVertex(bestKey);
+        inst.k -= 1;
+        if (new ParallelSearch(inst, depth + 1, options, solved, tryK).compute()) {
+            return true;
+        }
+        return fork.join();
+    }
+
+    private boolean solveParts(Graph[] parts) {
+        int[] lower = SearchTree.lowerBounds(parts, options);
+        int rest = 0;
+        for (int bound : lower) {
+            rest += bound;
+        }
+        int last = parts.length - 1;
+        @SuppressWarnings("unchecked")
+        ForkJoinTask<Integer>[] tasks = (ForkJoinTask<Integer>[]) new ForkJoinTask<?>[last];
+        for (int i = 0; i < last; i++) {
+            Graph part = parts[i];
+            int limit = inst.k - rest + lower[i];   //all other parts get their lower bound
+            tasks[i] = ForkJoinTask.adapt(() -> SearchTree.findK(part, limit, options, null, solved)).fork();
+        }
+        int k = inst.k;
+        for (ForkJoinTask<Integer> task : tasks) {
+            k -= task.join();
+        }
+        if (k < lower[last] || solved.isCancelled())
+            return false;
+        return new ParallelSearch(new Instance(parts[last], k), depth + 1, options, solved, tryK).compute();
+    }
+
+    private boolean found(boolean solvable) {
+        if (solvable) {
+            solved.cancel();
+        }
+        return solvable;
+    }
+}
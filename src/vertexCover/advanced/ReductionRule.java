@@ -0,0 +1,24 @@
+package vertexCover.advanced;
+
+/**
+ * The reduction rules that {@link SearchTree} applies in every node of the search tree. {@link SearchStats} counts
+ * how often each of them changed the graph and how long it took.
+ */
+public enum ReductionRule {
+    /**
+     * "removeClique": a vertex whose neighbours are a clique, its neighbours are taken
+     */
+    CLIQUE,
+    /**
+     * "removeP3": a vertex with two neighbours that aren't adjacent, the three are merged into one
+     */
+    P3,
+    /**
+     * "removeBigNeighbour": a neighbour that has all neighbours of a vertex is taken
+     */
+    BIG_NEIGHBOUR,
+    /**
+     * "removeHighDeg": a vertex with more neighbours than K is taken
+     */
+    HIGH_DEGREE
+}
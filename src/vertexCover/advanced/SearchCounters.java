@@ -0,0 +1,56 @@
+package vertexCover.advanced;
+
+import java.util.Arrays;
+
+/**
+ * The counters of {@link SearchStats} for one thread. Only this thread writes them, so they are plain fields instead
+ * of atomic ones and counting a node costs a few additions. The search gets them once per search tree (not once per
+ * node), a search without {@link SolverOptions#stats} gets null and only pays for the null checks.
+ */
+final class SearchCounters {
+    long nodes;
+    long boundPrunes;       //the lower bound was bigger than K
+    long reductionPrunes;   //the reduction rules already took more than K vertices
+    int maxDepth;
+    final long[] ruleHits = new long[ReductionRule.values().length];
+    final long[] ruleNanos = new long[ReductionRule.values().length];
+    long[] nodesPerK = new long[16];
+    /**
+     * The K of the try of the iterative search that runs in this thread, -1 outside of it
+     */
+    int tryK = -1;
+
+    void node(int depth) {
+        nodes++;
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+        if (tryK >= 0) {
+            if (tryK >= nodesPerK.length) {
+                nodesPerK = Arrays.copyOf(nodesPerK, Math.max(nodesPerK.length * 2, tryK + 1));
+            }
+            nodesPerK[tryK]++;
+        }
+    }
+
+    /**
+     * @param hit       True if the rule changed the graph
+     * @param startTime System.nanoTime() before the rule was applied
+     */
+    void rule(ReductionRule rule, boolean hit, long startTime) {
+        ruleNanos[rule.ordinal()] += System.nanoTime() - startTime;
+        if (hit) {
+            ruleHits[rule.ordinal()]++;
+        }
+    }
+
+    void reset() {
+        nodes = 0;
+        boundPrunes = 0;
+        reductionPrunes = 0;
+        maxDepth = 0;
+        Arrays.fill(ruleHits, 0);
+        Arrays.fill(ruleNanos, 0);
+        Arrays.fill(nodesPerK, 0);
+    }
+}
@@ -0,0 +1,170 @@
+package vertexCover.advanced;
+
+import core.Graph;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts what the search did. Pass it with {@link SolverOptions#stats} to
+ * {@link SearchTree#minVertexCover(Graph, SolverOptions)}, it can be read afterwards.
+ * <p>
+ * Every thread counts into its own {@link SearchCounters}, the getters add up the counters of all threads. So they
+ * should only be called once the search is finished. Without stats (the default) the search only checks for null.
+ * While a JFR recording runs, the totals are also written as a {@link SearchStatsEvent} after every search.
+ */
+public class SearchStats {
+    final LongAdder[] classes = new LongAdder[ComponentClass.values().length];
+    private final Queue<SearchCounters> threads = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<SearchCounters> local = ThreadLocal.withInitial(() -> {
+        SearchCounters counters = new SearchCounters();
+        threads.add(counters);
+        return counters;
+    });
+
+    public SearchStats() {
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return The counters of the calling thread
+     */
+    SearchCounters local() {
+        return local.get();
+    }
+
+    /**
+     * @return The number of nodes of the search tree that were visited (over all tries for K)
+     */
+    public long getNodes() {
+        long sum = 0;
+        for (SearchCounters counters : threads) {
+            sum += counters.nodes;
+        }
+        return sum;
+    }
+
+    /**
+     * @return The nodes of the iterative search by the K of the try they were visited in (the index). The K is the
+     * one of the subGraph that is searched, the graphs of different tries may be different subGraphs.
+     */
+    public long[] getNodesPerK() {
+        long[] sum = new long[0];
+        for (SearchCounters counters : threads) {
+            long[] perK = counters.nodesPerK;
+            if (perK.length > sum.length) {
+                sum = Arrays.copyOf(sum, perK.length);
+            }
+            for (int k = 0; k < perK.length; k++) {
+                sum[k] += perK[k];
+            }
+        }
+        int length = sum.length;
+        while (length > 0 && sum[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.copyOf(sum, length);
+    }
+
+    /**
+     * @return The deepest node of a search tree, counted from the root of its try (or subGraph)
+     */
+    public int getMaxDepth() {
+        int max = 0;
+        for (SearchCounters counters : threads) {
+            max = Math.max(max, counters.maxDepth);
+        }
+        return max;
+    }
+
+    /**
+     * @return How many nodes were cut off because the lower bound of their graph was bigger than what was left of K
+     */
+    public long getBoundPrunes() {
+        long sum = 0;
+        for (SearchCounters counters : threads) {
+            sum += counters.boundPrunes;
+        }
+        return sum;
+    }
+
+    /**
+     * @return How many nodes were cut off because the reduction rules alone took more vertices than what was left
+     * of K
+     */
+    public long getReductionPrunes() {
+        long sum = 0;
+        for (SearchCounters counters : threads) {
+            sum += counters.reductionPrunes;
+        }
+        return sum;
+    }
+
+    /**
+     * @return How often the rule changed the graph of a node of the search tree
+     */
+    public long getHits(ReductionRule rule) {
+        long sum = 0;
+        for (SearchCounters counters : threads) {
+            sum += counters.ruleHits[rule.ordinal()];
+        }
+        return sum;
+    }
+
+    /**
+     * @return The time the rule took in the search tree, including the times it didn't change anything
+     */
+    public long getNanos(ReductionRule rule) {
+        long sum = 0;
+        for (SearchCounters counters : threads) {
+            sum += counters.ruleNanos[rule.ordinal()];
+        }
+        return sum;
+    }
+
+    /**
+     * @return How many graphs of this class "SearchTree.findK" got (see {@link SolverOptions#specialClasses})
+     */
+    public long getHits(ComponentClass type) {
+        return classes[type.ordinal()].sum();
+    }
+
+    /**
+     * Should not be called while a search runs
+     */
+    public void reset() {
+        for (SearchCounters counters : threads) {
+            counters.reset();
+        }
+        for (LongAdder hits : classes) {
+            hits.reset();
+        }
+    }
+
+    /**
+     * Writes the totals as a {@link SearchStatsEvent} if a JFR recording wants it
+     */
+    void commitEvent() {
+        SearchStatsEvent event = new SearchStatsEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.nodes = getNodes();
+        event.maxDepth = getMaxDepth();
+        event.boundPrunes = getBoundPrunes();
+        event.reductionPrunes = getReductionPrunes();
+        event.cliqueHits = getHits(ReductionRule.CLIQUE);
+        event.cliqueNanos = getNanos(ReductionRule.CLIQUE);
+        event.p3Hits = getHits(ReductionRule.P3);
+        event.p3Nanos = getNanos(ReductionRule.P3);
+        event.bigNeighbourHits = getHits(ReductionRule.BIG_NEIGHBOUR);
+        event.bigNeighbourNanos = getNanos(ReductionRule.BIG_NEIGHBOUR);
+        event.highDegreeHits = getHits(ReductionRule.HIGH_DEGREE);
+        event.highDegreeNanos = getNanos(ReductionRule.HIGH_DEGREE);
+        event.commit();
+    }
+}
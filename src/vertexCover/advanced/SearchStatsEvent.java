@@ -0,0 +1,46 @@
+package vertexCover.advanced;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * The totals of a {@link SearchStats} after a search, for JFR recordings (for example with
+ * "-XX:StartFlightRecording"). Only written if {@link SolverOptions#stats} is set.
+ */
+@Name("vertexCover.SearchStats")
+@Label("Search Stats")
+@Category("Vertex Cover")
+@Description("What the search tree did, summed up since the stats were created or reset")
+class SearchStatsEvent extends jdk.jfr.Event {
+    @Label("Nodes")
+    long nodes;
+    @Label("Max Depth")
+    int maxDepth;
+    @Label("Bound Prunes")
+    long boundPrunes;
+    @Label("Reduction Prunes")
+    long reductionPrunes;
+    @Label("Clique Hits")
+    long cliqueHits;
+    @Label("Clique Time")
+    @Timespan
+    long cliqueNanos;
+    @Label("P3 Hits")
+    long p3Hits;
+    @Label("P3 Time")
+    @Timespan
+    long p3Nanos;
+    @Label("Big Neighbour Hits")
+    long bigNeighbourHits;
+    @Label("Big Neighbour Time")
+    @Timespan
+    long bigNeighbourNanos;
+    @Label("High Degree Hits")
+    long highDegreeHits;
+    @Label("High Degree Time")
+    @Timespan
+    long highDegreeNanos;
+}
@@ -1,12 +1,18 @@
 package vertexCover.advanced;
 
+import core.Components;
+import core.CoverLog;
 import core.Instance;
 import core.Graph;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Searches for a minimal integer K which stands for the number of vertices you need at least to cover every vertex in
@@ -20,46 +26,266 @@ public class SearchTree {
      * @return K
      */
     public static int minVertexCover(Graph g) {
+        return minVertexCover(g, new SolverOptions());
+    }
+
+    /**
+     * @param g       The target graph.
+     * @param options How the search is done, for example on how many threads
+     * @return K
+     */
+    public static int minVertexCover(Graph g, SolverOptions options) {
+        return minVertexCover(g, options, null);
+    }
+
+    /**
+     * Like {@link #minVertexCover(Graph, SolverOptions)}, but can be stopped. Only counts the vertices, use
+     * {@link #solve(Graph, SolverOptions, CancellationToken)} for the cover and the bounds of a stopped search.
+     *
+     * @param g     The target graph.
+     * @param token Stops the search once it is cancelled, may be null
+     * @return K, or -1 if the search was stopped before K was found
+     */
+    public static int minVertexCover(Graph g, SolverOptions options, CancellationToken token) {
         //Here you see how the rules are applied beforehand to reduces the graph before the search for K even begins.
         //By how much the graph was simplified is stored in "change". It is added to the result in the end.
-        Instance pre = applyRules(g);
+        Instance pre = kernelize(g, options, null, token);
         g = pre.graph;
         int change = pre.k;
+        if (token != null && token.isCancelled()) {
+            return -1;
+        }
 
-        int result = 0;
-        //Calculates K for each disjoint subGraph to reduce the runtime in hard instances.
-        for (Graph disjointGraph : g.getDisjointGraphs()) {
-            result += findK(disjointGraph);
+        ForkJoinPool pool = options.parallelism > 1 ? new ForkJoinPool(options.parallelism) : null;
+        try {
+            //Calculates K for each disjoint subGraph to reduce the runtime in hard instances.
+            Bounds k = ComponentScheduler.solve(g.getDisjointGraphs(), options, pool, token);
+            return k.lower == k.upper ? k.lower + change : -1;
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+            if (options.stats != null) {
+                options.stats.commitEvent();
+            }
         }
-        return result + change;
+    }
+
+    /**
+     * Like {@link #minVertexCover(Graph, SolverOptions)}, but can be stopped: once "token" is cancelled (or its
+     * deadline passed, see {@link CancellationToken#withTimeout(long)}), the search returns as fast as possible with
+     * what it knows so far instead of K. It also returns the vertices of the cover.
+     * <p>
+     * The search itself only counts vertices, so the rules of the kernel write the vertices they take into a
+     * {@link CoverLog} and every part of the kernel gets one more try with its K that does the same
+     * ({@link CoverSearch}). A part that wasn't finished in time gets a quick cover instead.
+     *
+     * @param g     The target graph. Is restored in the end.
+     * @param token Stops the search once it is cancelled, may be null
+     * @return K as both bounds and a cover of K vertices, or the best lower bound found until the search was stopped
+     * and a cover
+     */
+    public static Solution solve(Graph g, SolverOptions options, CancellationToken token) {
+        int safePoint = g.getSafePoint();
+        CoverLog log = new CoverLog();
+        Instance pre = kernelize(g, options, log, token);
+        int lower = pre.k;
+
+        ForkJoinPool pool = options.parallelism > 1 ? new ForkJoinPool(options.parallelism) : null;
+        try {
+            if (token != null && token.isCancelled()) {
+                //the kernel may be unfinished and the search would only do the rest of it again, every vertex
+                //covers at most "maxDegree" of the edges that are left
+                int maxDegree = Math.max(1, pre.graph.getMaxDegree());
+                lower += (pre.graph.getEdgeCount() + maxDegree - 1) / maxDegree;
+                quickCover(pre.graph, log);
+            } else {
+                List<Graph> parts = new ArrayList<>(pre.graph.getDisjointGraphs());
+                //the search changes the parts, the covers are looked for on the parts as they were
+                int[] safePoints = new int[parts.size()];
+                for (int i = 0; i < safePoints.length; i++) {
+                    safePoints[i] = parts.get(i).getSafePoint();
+                }
+                Bounds[] k = ComponentScheduler.solveEach(parts, options, pool, token);
+                for (int i = 0; i < k.length; i++) {
+                    Graph part = parts.get(i);
+                    part.restore(safePoints[i]);
+                    lower += k[i].lower;
+                    int logSize = log.size();
+                    Instance inst = new Instance(part, k[i].upper);
+                    inst.log = log;
+                    if (!CoverSearch.solve(inst, options, token)) {
+                        //only if it was cancelled
+                        log.truncate(logSize);
+                        part.restore(safePoints[i]);
+                        quickCover(part, log);
+                    }
+                }
+            }
+            int[] cover = log.cover();
+            return new Solution(lower, cover.length, cover);
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+            if (options.stats != null) {
+                options.stats.commitEvent();
+            }
+            g.restore(safePoint);
+        }
+    }
+
+    /**
+     * Takes one end of every edge that isn't covered yet, in O(n + m) and without changing the graph, for when there
+     * is no time left for anything better
+     */
+    private static void quickCover(Graph g, CoverLog log) {
+        Set<Integer> taken = new HashSet<>();
+        g.forEachVertex(v -> g.forEachNeighbour(v, w -> {
+            if (!taken.contains(v) && !taken.contains(w)) {
+                taken.add(v);
+                log.take(v);
+            }
+        }));
     }
 
     /**
      * Actually calculates K for a given (sub-)graph. We know that the input graph is connected, because this method
      * is called in "minVertexCover". Would work on disconnected graphs too, but would take unnecessarily long.
      *
-     * @param g The target graph
+     * @param g    The target graph
+     * @param pool Runs the search tree on multiple threads, null to search in the calling thread
      * @return K
      */
-    private static int findK(Graph g) {
+    static int findK(Graph g, SolverOptions options, ForkJoinPool pool) {
+        return findK(g, Integer.MAX_VALUE, options, pool, null);
+    }
+
+    /**
+     * Like {@link #findK(Graph, SolverOptions, ForkJoinPool)}, but gives up once K is known to be bigger than "limit".
+     *
+     * @param limit The biggest K the caller is interested in
+     * @param token Stops the search once it is cancelled, may be null
+     * @return K, or a number bigger than "limit" if K is bigger than "limit"
+     */
+    static int findK(Graph g, int limit, SolverOptions options, ForkJoinPool pool, CancellationToken token) {
+        return bounds(g, limit, options, pool, token).lower;
+    }
+
+    /**
+     * Like {@link #findK(Graph, int, SolverOptions, ForkJoinPool, CancellationToken)}, but also tells what is known
+     * about K if the search was cancelled: every "i" the iterative search gave up on is a lower bound and the upper
+     * bound of the search is still an upper bound.
+     *
+     * @return K as both bounds, or the bounds of K if the search was cancelled or K is bigger than "limit"
+     */
+    static Bounds bounds(Graph g, int limit, SolverOptions options, ForkJoinPool pool, CancellationToken token) {
+        ComponentCache cache = options.componentCache;
+        CanonicalForm key = cache == null ? null : cache.key(g);
+        if (key == null) {
+            return search(g, limit, options, pool, token);
+        }
+        Integer cached = cache.get(key);
+        if (cached != null) {
+            return Bounds.exact(cached);
+        }
+        Bounds k = search(g, limit, options, pool, token);
+        //only K itself is stored, not the bounds of a cancelled search or a search that stopped at "limit"
+        if (k.lower == k.upper) {
+            cache.put(key, k.lower);
+        }
+        return k;
+    }
+
+    private static Bounds search(Graph g, int limit, SolverOptions options, ForkJoinPool pool,
+                                 CancellationToken token) {
+        if (options.specialClasses) {
+            int k = SpecialClasses.solve(g, options);
+            if (k >= 0) {
+                return Bounds.exact(k);
+            }
+        }
+
         //Like usually, the reduction rules are applied.
-        Instance inst = applyRules(g);
+        Instance inst = applyRules(g, null, token);
         g = inst.graph;
         int change = inst.k;
 
-        int i = GraphUtil.getLowerBound(g, false);
-        int maxK = GraphUtil.getUpperBound(g);
-
-        int safePoint = g.getSafePoint();       //for the UndoStack
+        if (g.size() <= options.bitSetSize) {
+            int k = BitSetSearch.solve(g, limit - change, options.stats, token);
+            if (token != null && token.isCancelled()) {
+                return new Bounds(Math.min(options.lowerBound.compute(g), k), k).plus(change);
+            }
+            return k + change > limit ? new Bounds(k, g.size()).plus(change) : Bounds.exact(k + change);
+        }
+        if (options.branchAndBound) {
+            return BranchAndBound.solve(g, options, token).plus(change);
+        }
 
-        for (; i < maxK; i++) {
-            g.restore(safePoint);
-            inst.k = i;
-            if (solveI(inst)) {
-                return i + change;
+        int i = options.lowerBound.compute(g);
+        int maxK = LocalSearch.upperBound(g, i, options, token);
+
+        int safePoint = g.getSafePoint();       //for the trail
+        int vertices = g.size();
+        int edges = g.getEdgeCount();
+        SearchCounters counters = options.stats == null ? null : options.stats.local();
+        int outerTry = counters == null ? -1 : counters.tryK;   //if this is a part of another try
+        TranspositionTable table = options.transpositionTable;
+        long hash = g.getHash();
+
+        try {
+            for (; i < maxK; i++) {
+                if (i + change > limit) {
+                    return new Bounds(limit + 1, maxK + change);
+                }
+                g.restore(safePoint);
+                inst.k = i;
+                if (table != null) {
+                    table.nextAge();
+                }
+                //the JFR classes take a moment to load, so without stats they aren't touched at all
+                SearchTryEvent event = null;
+                long nodes = 0;
+                if (counters != null) {
+                    counters.tryK = i;
+                    nodes = counters.nodes;
+                    event = new SearchTryEvent();
+                    event.begin();
+                }
+                //the same graph may have been solved before, for example as an equal part of another split
+                int known = table == null ? 0 : table.probe(hash, i);
+                boolean solvable;
+                if (known != 0) {
+                    solvable = known > 0;
+                } else {
+                    solvable = pool != null && g.size() >= options.minForkSize
+                            ? ParallelSearch.solve(inst, options, pool, token)
+                            : solveI(inst, options, token);
+                    if (table != null && (solvable || token == null || !token.isCancelled())) {
+                        table.store(hash, i, solvable, 0);
+                    }
+                }
+                if (event != null && event.shouldCommit()) {
+                    event.k = i;
+                    event.vertices = vertices;
+                    event.edges = edges;
+                    event.solvable = solvable;
+                    event.nodes = counters.nodes - nodes;
+                    event.commit();
+                }
+                if (solvable) {
+                    return Bounds.exact(i + change);
+                }
+                if (token != null && token.isCancelled()) {
+                    return new Bounds(i, maxK).plus(change);
+                }
+            }
+            return Bounds.exact(maxK + change);
+        } finally {
+            if (counters != null) {
+                counters.tryK = outerTry;
             }
         }
-        return maxK + change;
     }
 
     /**
@@ -67,18 +293,69 @@ public class SearchTree {
      * vertices with a degree greater than K in instances, not as a preparation for graphs because the don't have a K
      * to use for this rule.
      *
-     * @param inst Target Instance. Does NOT need to be a copy.
+     * @param inst    Target Instance. Does NOT need to be a copy.
+     * @param options Only used for the {@link SearchStats}
+     * @param token   Stops the search (returns false) once it is cancelled, may be null
      * @return True if solvable for the value K stored in the instance.
      */
-    private static boolean solveI(Instance inst) {
-        applyRules(inst);
+    static boolean solveI(Instance inst, SolverOptions options, CancellationToken token) {
+        return solveI(inst, options, token, 0);
+    }
 
-        int minK = GraphUtil.getLowerBound(inst.graph, false);
+    /**
+     * @param depth The depth of this node in the search tree, for the {@link SearchStats}
+     */
+    static boolean solveI(Instance inst, SolverOptions options, CancellationToken token, int depth) {
+        return solveI(inst, options, token, options.stats == null ? null : options.stats.local(), depth);
+    }
 
-        if (inst.k < minK)
+    private static boolean solveI(Instance inst, SolverOptions options, CancellationToken token,
+                                  SearchCounters counters, int depth) {
+        if (token != null && token.isCancelled())
             return false;
+        if (counters != null)
+            counters.node(depth);
+
+        reduce(inst, options, counters);
+
+        TranspositionTable table = options.transpositionTable;
+        if (table == null)
+            return branch(inst, options, token, counters, depth);
+        //the reduced graph of this node, before the branches change it
+        long hash = inst.graph.getHash();
+        int k = inst.k;
+        int known = table.probe(hash, k);
+        if (known != 0)
+            return known > 0;
+        boolean solvable = branch(inst, options, token, counters, depth);
+        //"false" of a cancelled search proves nothing
+        if (solvable || token == null || !token.isCancelled())
+            table.store(hash, k, solvable, depth);
+        return solvable;
+    }
+
+    /**
+     * The rest of a node of "solveI" after the reduction rules: the lower bound, the split and the two branches
+     */
+    private static boolean branch(Instance inst, SolverOptions options, CancellationToken token,
+                                  SearchCounters counters, int depth) {
+        int minK = options.lowerBound.compute(inst.graph);
+
+        if (inst.k < minK) {
+            if (counters != null)
+                prune(counters, inst.k);
+            return false;
+        }
         if (!inst.graph.hasEdges())
             return true;
+        if (inst.graph.size() <= options.bitSetSize)
+            return BitSetSearch.solve(inst.graph, inst.k, options.stats, token) <= inst.k;
+
+        if (options.splitComponents && inst.graph.size() >= options.minSplitSize) {
+            Graph[] parts = split(inst.graph);
+            if (parts != null)
+                return solveParts(parts, inst.k, options, token, depth);
+        }
 
         int bestKey = GraphUtil.maxDegreeID(inst.graph);
 
@@ -87,14 +364,174 @@ public class SearchTree {
         inst.graph.deleteVertex(bestKey);
         inst.k -= 1;
 
-        if (solveI(inst)) {
+        if (solveI(inst, options, token, counters, depth + 1)) {
             return true;
         }
 
         inst.graph.restore(safePoint);
-        inst.k = safeK - inst.graph.getNeighbours(bestKey).size();
-        inst.graph.getNeighbours(bestKey).forEach(inst.graph::deleteVertex);
-        return solveI(inst); // instNeighborsDelete
+        inst.k = safeK - inst.graph.degree(bestKey);
+        for (int nb : inst.graph.getNeighbourArray(bestKey)) {
+            inst.graph.deleteVertex(nb);
+        }
+        return solveI(inst, options, token, counters, depth + 1); // instNeighborsDelete
+    }
+
+    /**
+     * Counts a node that was cut off, because K was smaller than its lower bound
+     *
+     * @param k What was left of K after the reduction rules
+     */
+    static void prune(SearchCounters counters, int k) {
+        if (k < 0) {
+            counters.reductionPrunes++;
+        } else {
+            counters.boundPrunes++;
+        }
+    }
+
+    /**
+     * The search tree of a graph that fell apart branches on all of its parts together, so the sizes of their trees
+     * are multiplied. Solved one after the other, they are only added up.
+     *
+     * @param g A reduced graph, so it doesn't have vertices without edges
+     * @return The disjoint subGraphs sorted by their size (the biggest one last), null if "g" is still connected
+     */
+    static Graph[] split(Graph g) {
+        if (g.isConnected()) {
+            return null;
+        }
+        Components components = new Components(g);
+        Integer[] order = new Integer[components.count];
+        for (int c = 0; c < order.length; c++) {
+            order[c] = c;
+        }
+        Arrays.sort(order, Comparator.comparingInt(components::size));
+        Graph[] parts = new Graph[order.length];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = components.graph(order[i]);
+        }
+        return parts;
+    }
+
+    /**
+     * Only the K of the smaller parts has to be known exactly, the biggest one just has to fit into what is left.
+     * Every part only gets as many vertices as are left after all parts behind it got their lower bound.
+     *
+     * @param parts The disjoint subGraphs from {@link #split(Graph)}
+     * @param k     How many vertices all parts together may use
+     * @param depth The depth of the node that was split
+     * @return True if all parts can be covered with "k" vertices
+     */
+    private static boolean solveParts(Graph[] parts, int k, SolverOptions options, CancellationToken token,
+                                      int depth) {
+        int[] lower = lowerBounds(parts, options);
+        int rest = 0;
+        for (int bound : lower) {
+            rest += bound;
+        }
+        int last = parts.length - 1;
+        for (int i = 0; i < last; i++) {
+            rest -= lower[i];
+            k -= findK(parts[i], k - rest, options, null, token);
+            if (k < rest)
+                return false;
+        }
+        return solveI(new Instance(parts[last], k), options, token, depth + 1);
+    }
+
+    /**
+     * @return The lower bound of every part
+     */
+    static int[] lowerBounds(Graph[] parts, SolverOptions options) {
+        int[] lower = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            lower[i] = options.lowerBound.compute(parts[i]);
+        }
+        return lower;
+    }
+
+    /**
+     * Applies all reduction rules that don't need a K, which are the same as in {@link #applyRules(Graph)} plus the
+     * {@link LPKernel} if {@link SolverOptions#lpKernel} is set.
+     *
+     * @param g The graph we want to prepare before solving
+     * @return An Instance object with the reduced graph, by how many points it was improved is stored in "k"
+     */
+    public static Instance kernelize(Graph g, SolverOptions options) {
+        return kernelize(g, options, null, null);
+    }
+
+    /**
+     * @param log   Gets the vertices that are taken, may be null
+     * @param token Stops the rules once it is cancelled, the graph is then only partly reduced. May be null.
+     */
+    static Instance kernelize(Graph g, SolverOptions options, CoverLog log, CancellationToken token) {
+        Instance inst = applyRules(g, log, token);
+        if (token != null && token.isCancelled()) {
+            return inst;
+        }
+        if (options.hyperCubes) {
+            inst.k += removeCubes(g, log);
+        }
+        if (options.lpKernel) {
+            inst.k += applyLPKernel(g, log);
+        }
+        return inst;
+    }
+
+    /**
+     * Applies {@link HyperCubes#apply(Graph)} and after it the other reduction rules again, as long as it removes
+     * vertices.
+     *
+     * @param g The graph we want to prepare before solving
+     * @return By how many points the graph was improved
+     */
+    private static int removeCubes(Graph g, CoverLog log) {
+        int change = 0;
+        while (true) {
+            int taken = HyperCubes.apply(g, log);
+            if (taken == 0) {
+                return change;
+            }
+            change += taken + applyRules(g, log, null).k;
+        }
+    }
+
+    /**
+     * Applies the {@link LPKernel} and after it the other reduction rules again, as long as it removes vertices.
+     *
+     * @param g The graph we want to prepare before solving
+     * @return By how many points the graph was improved
+     */
+    private static int applyLPKernel(Graph g, CoverLog log) {
+        int change = 0;
+        int size = g.size();
+        while (true) {
+            change += LPKernel.apply(g, log);
+            if (g.size() == size) {
+                return change;
+            }
+            change += applyRules(g, log, null).k;
+            size = g.size();
+        }
+    }
+
+    /**
+     * Applies all rules to a node of the search tree, including the {@link LPKernel} if
+     * {@link SolverOptions#lpKernelInSearch} is set.
+     *
+     * @param inst     Target instance
+     * @param counters Counts the hits and the time of the rules, may be null
+     */
+    static void reduce(Instance inst, SolverOptions options, SearchCounters counters) {
+        applyRules(inst, counters);
+        if (options.lpKernelInSearch && inst.graph.hasEdges()) {
+            int size = inst.graph.size();
+            inst.k -= LPKernel.apply(inst.graph);
+            if (inst.graph.size() != size) {
+                applyRules(inst, counters);
+            }
+        }
     }
 
     /**
@@ -106,12 +543,19 @@ public class SearchTree {
      * We need to return an instance because we need to store by how much it was changed, which we can't do in a graph.
      */
     public static Instance applyRules(Graph g) {
+        return applyRules(g, null, null);
+    }
+
+    /**
+     * @param log   Gets the vertices that are taken, may be null
+     * @param token Stops the rules once it is cancelled, the graph is then only partly reduced. May be null.
+     */
+    static Instance applyRules(Graph g, CoverLog log, CancellationToken token) {
         Instance inst = new Instance(g, 0);
+        inst.log = log;
         //Can NOT use "prepareInstance", because this would use "removeHighDeg" which isn`t allowed in this context
-        boolean hasRemoved = true;
-        while (hasRemoved) {
-            hasRemoved = removeCliques(inst) | removeP3(inst) | removeBigNeighbour(inst);
-        }
+        g.markAllDirty();
+        reduceDirty(inst, false, null, token);
         inst.k = -inst.k;
 
         return inst;
@@ -119,17 +563,122 @@ public class SearchTree {
 
     /**
      * Applies all rules we currently have implemented.
+     * The rules only look at the dirty vertices of the graph (the ones around the last changes), except for the
+     * high-degree-rule: K may be smaller than the last time, so it checks the maximum degree once more.
      *
-     * @param inst Target instance
+     * @param inst     Target instance
+     * @param counters Counts the hits and the time of the rules, may be null
      * @return is void because we just change the parameter-object
      */
-    private static void applyRules(Instance inst) {
-        boolean hasRemoved = true;
-        while (hasRemoved) {
-            hasRemoved = removeP3(inst) | removeCliques(inst) | removeHighDeg(inst) | removeBigNeighbour(inst);
+    static void applyRules(Instance inst, SearchCounters counters) {
+        while (true) {
+            reduceDirty(inst, true, counters, null);
+            long startTime = counters != null ? System.nanoTime() : 0;
+            boolean changed = removeHighDeg(inst);
+            if (counters != null)
+                counters.rule(ReductionRule.HIGH_DEGREE, changed, startTime);
+            if (!changed)
+                return;
         }
     }
 
+    /**
+     * Takes the dirty vertices of the graph and applies the rules to them, until there are no dirty vertices left.
+     * Every change marks the vertices around it as dirty again, so the time this takes depends on the number of
+     * changes and not on the size of the graph.
+     * Like the old passes over the whole graph, the cheap clique-rule goes first: it removes the leaves and
+     * triangles before the other rules merge vertices or compare big neighbourhoods.
+     *
+     * @param inst     Target instance
+     * @param highDeg  Whether the high-degree-rule may be used
+     * @param counters Counts the hits and the time of the rules, may be null
+     * @param token    Stops the rules once it is cancelled, may be null. The nodes of the search check their own
+     *                 token, so it is only passed for the whole graph.
+     */
+    private static void reduceDirty(Instance inst, boolean highDeg, SearchCounters counters,
+                                    CancellationToken token) {
+        Graph g = inst.graph;
+        int[] pending = new int[16];
+        int checked = 0;
+        while (g.hasDirtyVertices()) {
+            int count = 0;
+            while (g.hasDirtyVertices()) {
+                //the token is only checked every 256 vertices, like in the bitset search
+                if (token != null && (++checked & 255) == 0 && token.isCancelled()) {
+                    return;
+                }
+                int key = g.nextDirtyVertex();
+                if (!g.contains(key)) {
+                    continue;
+                }
+                long startTime = counters != null ? System.nanoTime() : 0;
+                boolean clique = removeClique(inst, key);
+                if (counters != null) {
+                    counters.rule(ReductionRule.CLIQUE, clique, startTime);
+                }
+                if (!clique) {
+                    if (count == pending.length) {
+                        pending = Arrays.copyOf(pending, count * 2);
+                    }
+                    pending[count++] = key;
+                }
+            }
+
+            for (int i = 0; i < count; i++) {
+                int key = pending[i];
+                if (!g.contains(key)) {
+                    continue;
+                }
+                if (counters != null) {
+                    if (countedRule(inst, key, ReductionRule.P3, counters)
+                            || countedRule(inst, key, ReductionRule.BIG_NEIGHBOUR, counters)) {
+                        continue;
+                    }
+                } else if (removeP3(inst, key) || removeBigNeighbour(inst, key)) {
+                    continue;
+                }
+                if (highDeg && g.degree(key) > inst.k) {    //is a "high vertex"
+                    removeVertex(inst, key);
+                    if (counters != null) {
+                        counters.ruleHits[ReductionRule.HIGH_DEGREE.ordinal()]++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies one rule to one vertex, for example to measure the rules one by one.
+     *
+     * @param inst Target instance
+     * @param key  A vertex of the graph of "inst"
+     * @return True if the rule changed the instance. False otherwise.
+     */
+    static boolean applyRule(ReductionRule rule, Instance inst, int key) {
+        switch (rule) {
+            case CLIQUE:
+                return removeClique(inst, key);
+            case P3:
+                return removeP3(inst, key);
+            case BIG_NEIGHBOUR:
+                return removeBigNeighbour(inst, key);
+            default:
+                return inst.graph.degree(key) > inst.k && removeVertex(inst, key);
+        }
+    }
+
+    /**
+     * Applies "removeP3" or "removeBigNeighbour" and counts its hit and time.
+     *
+     * @return True if the rule changed the instance. False otherwise.
+     */
+    private static boolean countedRule(Instance inst, int key, ReductionRule rule, SearchCounters counters) {
+        long startTime = System.nanoTime();
+        boolean changed = rule == ReductionRule.P3 ? removeP3(inst, key) : removeBigNeighbour(inst, key);
+        counters.rule(rule, changed, startTime);
+        return changed;
+    }
+
     /**
      * An clique is a set of vertices which are ALL connected to each other vertex in the clique. For example a single point,
      * two connected vertices or a triangle are (simple) cases of a clique. If we find a clique of size n and only n-1 vertices
@@ -137,32 +686,30 @@ public class SearchTree {
      * This is a generalization of the "singleton" and "degree-one" rule => It also works on arbitrarily big cliques.
      *
      * @param inst Target instance
+     * @param key  The vertex whose neighbours are checked
      * @return True if this method changed the instance. False otherwise.
      */
-    private static boolean removeCliques(Instance inst) {
-        boolean changed = false;
-
-        keyLoop:
-        for (int key : inst.graph.getVertices()) {
-
-            Set<Integer> neighbours = inst.graph.getNeighbours(key);
-
-            //check all connections of the neighbours pairwise to verify that it is a clique
-            for (int a : neighbours) {
-                for (int b : neighbours) {
-                    if (!(inst.graph.adjacent(a, b) || a == b)) {
-                        continue keyLoop;
-                    }
+    private static boolean removeClique(Instance inst, int key) {
+        int[] neighbours = inst.graph.getNeighbourArray(key);
+
+        //check all connections of the neighbours pairwise to verify that it is a clique
+        for (int i = 0; i < neighbours.length; i++) {
+            for (int j = i + 1; j < neighbours.length; j++) {
+                if (!inst.graph.adjacent(neighbours[i], neighbours[j])) {
+                    return false;
                 }
             }
+        }
 
-            int reduce = neighbours.size();
-            neighbours.forEach(inst.graph::deleteVertex);
-            inst.graph.deleteVertex(key);
-            inst.k -= reduce;
-            changed = true;
+        int reduce = neighbours.length;
+        for (int nb : neighbours) {
+            inst.graph.deleteVertex(nb);
+            if (inst.log != null)
+                inst.log.take(nb);
         }
-        return changed;
+        inst.graph.deleteVertex(key);
+        inst.k -= reduce;
+        return true;
     }
 
     /**
@@ -172,25 +719,26 @@ public class SearchTree {
      * in which direction the merge operation is done.
      *
      * @param inst Target instance
+     * @param key  The vertex that may be removed
      * @return True if this method changed the instance. False otherwise.
      */
-    private static boolean removeP3(Instance inst) {
-        boolean changed = false;
-        for (int key : inst.graph.getVertices()) {
-            if (inst.graph.getNeighbours(key).size() == 2) {
-                Iterator<Integer> it = inst.graph.getNeighbours(key).iterator();
-                //Merge nb1 onto nb2
-                int nb1 = it.next();
-                int nb2 = it.next();
-                if (!inst.graph.adjacent(nb1, nb2)) {
-                    mergeVertices(inst.graph, nb1, nb2);
-                    inst.graph.deleteVertex(key);
-                    inst.k -= 1;
-                    changed = true;
-                }
-            }
+    private static boolean removeP3(Instance inst, int key) {
+        if (inst.graph.degree(key) != 2) {
+            return false;
         }
-        return changed;
+        PrimitiveIterator.OfInt it = inst.graph.neighbourIterator(key);
+        //Merge nb1 onto nb2
+        int nb1 = it.nextInt();
+        int nb2 = it.nextInt();
+        if (inst.graph.adjacent(nb1, nb2)) {
+            return false;
+        }
+        mergeVertices(inst.graph, nb1, nb2);
+        inst.graph.deleteVertex(key);
+        if (inst.log != null)
+            inst.log.fold(key, nb1, nb2);
+        inst.k -= 1;
+        return true;
     }
 
     /**
@@ -202,57 +750,27 @@ public class SearchTree {
      * be applied in both direction with no difference.
      *
      * @param inst Target instance.
+     * @param a    The vertex "v1", its neighbours are the candidates for "v2"
      * @return True if this method changed the instance. False otherwise.
      */
-    private static boolean removeBigNeighbour(Instance inst) {
-        boolean changed = false;
-        for (int a : inst.graph.getVertices()) {
-
-            Set<Integer> neighboursA = inst.graph.getNeighbours(a);
+    private static boolean removeBigNeighbour(Instance inst, int a) {
+        int[] neighboursA = inst.graph.getNeighbourArray(a);
 
-            neighbourLoop:
-            for (int b : neighboursA) {
-                Set<Integer> neighboursB = inst.graph.getNeighbours(b);
-                for (int i : neighboursA) {
-                    if (!(neighboursB.contains(i) || i == b)) {
-                        continue neighbourLoop;
-                    }
-                }
-
-                inst.graph.deleteVertex(b);
-                inst.k--;
-                changed = true;
+        neighbourLoop:
+        for (int b : neighboursA) {
+            if (inst.graph.degree(b) < neighboursA.length) {
+                continue;   //can't have all the other neighbours of "a" and "a" itself
             }
-        }
-        return changed;
-    }
-
-    /**
-     * Not used yet, please ignore. Probably a bad idea.
-     */
-    private static boolean removeCubes(Instance inst) {
-        boolean changed = false;
-        HashSet<HashSet<Integer>> rectangles = new HashSet<>();
-
-        for (int key : inst.graph.getVertices()) {
-            Set<Integer> neighbours = inst.graph.getNeighbours(key);
-            for (int a : neighbours) {
-                for (int b : neighbours) {
-                    if (a != b) {
-                        Set<Integer> fourthVertexSet = inst.graph.getNeighbours(a);
-                        fourthVertexSet.retainAll(inst.graph.getNeighbours(b));
-                        fourthVertexSet.remove(key);
-
-                        for (int fourthVertex : fourthVertexSet) {
-                            HashSet newRect = new HashSet(4);
-                            Collections.addAll(newRect, key, a, b, fourthVertex);
-                            rectangles.add(new HashSet<>());
-                        }
-                    }
+            for (int i : neighboursA) {
+                if (!(i == b || inst.graph.adjacent(b, i))) {
+                    continue neighbourLoop;
                 }
             }
+
+            //"a" is dirty again now, because it lost the neighbour "b"
+            return removeVertex(inst, b);
         }
-        return changed;
+        return false;
     }
 
     /**
@@ -263,23 +781,34 @@ public class SearchTree {
      */
     private static boolean removeHighDeg(Instance inst) {
         boolean changed = false;
-        for (Integer key : inst.graph.getVertices()) {
-            if (inst.graph.degree(key) > inst.k) {    //is a "high vertex"
-                inst.graph.deleteVertex(key);
-                inst.k--;
-                changed = true;
-            }
+        while (!inst.graph.isEmpty() && inst.graph.getMaxDegree() > inst.k) {    //is a "high vertex"
+            changed = removeVertex(inst, inst.graph.getMaxDegreeVertex());
         }
         return changed;
     }
 
+    /**
+     * Takes a vertex into the vertex cover.
+     *
+     * @return Always true, so it can be used like the rules
+     */
+    private static boolean removeVertex(Instance inst, int key) {
+        inst.graph.deleteVertex(key);
+        if (inst.log != null)
+            inst.log.take(key);
+        inst.k--;
+        return true;
+    }
+
     /**
      * @param g    The target graph.
      * @param from This vertex is removed and its edges are add to "to".
      * @param to   This vertex receives the edges from "from".
      */
     private static void mergeVertices(Graph g, int from, int to) {
-        g.getNeighbours(from).forEach(x -> g.addEdge(to, x));
+        for (int x : g.getNeighbourArray(from)) {
+            g.addEdge(to, x);
+        }
         g.deleteVertex(from);  //also deletes all edges containing
     }
 }
\ No newline at end of file
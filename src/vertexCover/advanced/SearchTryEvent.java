@@ -0,0 +1,28 @@
+package vertexCover.advanced;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One try of the iterative search in "SearchTree.findK", for JFR recordings. Its duration is the time of the try.
+ * Only written if {@link SolverOptions#stats} is set.
+ */
+@Name("vertexCover.SearchTry")
+@Label("Search Try")
+@Category("Vertex Cover")
+@Description("Tries to cover a subGraph with K vertices")
+class SearchTryEvent extends jdk.jfr.Event {
+    @Label("K")
+    int k;
+    @Label("Vertices")
+    int vertices;
+    @Label("Edges")
+    int edges;
+    @Label("Solvable")
+    boolean solvable;
+    @Label("Nodes")
+    @Description("The nodes of this try in the calling thread")
+    long nodes;
+}
@@ -0,0 +1,35 @@
+package vertexCover.advanced;
+
+import core.Graph;
+
+/**
+ * The result of {@link SearchTree#solve(Graph, SolverOptions, CancellationToken)}. If the search wasn't stopped,
+ * both bounds are K. Otherwise K is somewhere between them.
+ */
+public class Solution {
+    /**
+     * No cover can be smaller than this
+     */
+    public final int lowerBound;
+    /**
+     * The size of {@link #cover}
+     */
+    public final int upperBound;
+    /**
+     * The IDs of the vertices of the smallest cover that was found, K of them if the search wasn't stopped
+     */
+    public final int[] cover;
+
+    Solution(int lowerBound, int upperBound, int[] cover) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.cover = cover;
+    }
+
+    /**
+     * @return True if the search finished, so {@link #upperBound} is K
+     */
+    public boolean isOptimal() {
+        return lowerBound == upperBound;
+    }
+}
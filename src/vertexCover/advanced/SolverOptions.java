@@ -0,0 +1,120 @@
+package vertexCover.advanced;
+
+import core.Graph;
+
+/**
+ * Settings for {@link SearchTree#minVertexCover(Graph, SolverOptions)}. The default values solve the graph in the
+ * calling thread, exactly like {@link SearchTree#minVertexCover(Graph)}.
+ */
+public class SolverOptions {
+    /**
+     * If true, K is found with one single branch-and-bound search instead of trying one K after the other.
+     * See {@link BranchAndBound}.
+     */
+    public boolean branchAndBound = false;
+
+    /**
+     * If true, the {@link LPKernel} is applied once after the other reduction rules, before the graph is split into
+     * disjoint subGraphs.
+     */
+    public boolean lpKernel = false;
+
+    /**
+     * If true, every hypercube (a rectangle is the smallest one) with one half that has no neighbours outside of the
+     * cube is reduced once after the other reduction rules, see {@link HyperCubes#apply(Graph)}.
+     */
+    public boolean hyperCubes = false;
+
+    /**
+     * If true, the {@link LPKernel} is also applied in every node of the search tree.
+     */
+    public boolean lpKernelInSearch = false;
+
+    /**
+     * The lower bound that is used to prune the search tree and as first K to try.
+     */
+    public LowerBound lowerBound = LowerBound.MATCHING;
+
+    /**
+     * If true, every node of the search tree checks if the graph fell apart into disjoint subGraphs. Their covers are
+     * then found one after the other instead of branching on all of them together.
+     */
+    public boolean splitComponents = true;
+
+    /**
+     * Only graphs with at least this many vertices are checked for {@link #splitComponents}. Most nodes of the search
+     * tree are small ones near its leaves, where the check would cost more than it saves.
+     */
+    public int minSplitSize = 48;
+
+    /**
+     * The time budget in milliseconds of the {@link LocalSearch} for the upper bound of every graph the search tree
+     * gets. It usually stops earlier, when it didn't find a smaller cover for a while. 0 to use the greedy upper bound
+     * only.
+     */
+    public long upperBoundMillis = 100;
+
+    /**
+     * If true, "SearchTree.findK" first checks if the graph is one of the {@link ComponentClass}es that can be solved
+     * without a search.
+     */
+    public boolean specialClasses = true;
+
+    /**
+     * Graphs that aren't one of the simpler {@link ComponentClass}es are solved with a {@link TreeDecomposition} if
+     * its width is at most this (at most 20), because the tables of the dynamic programming have 2^width entries.
+     * 0 to always use the search tree.
+     */
+    public int maxTreeWidth = 14;
+
+    /**
+     * Graphs with at most this many vertices are solved by {@link BitSetSearch}, which stores them in bitsets. 0 to
+     * always use the normal search.
+     */
+    public int bitSetSize = 256;
+
+    /**
+     * The number of threads the search tree is split onto. With 1 everything runs in the calling thread.
+     */
+    public int parallelism = 1;
+
+    /**
+     * Subtrees are only given to other threads up to this depth of the search tree. Below it, every thread searches
+     * its subtree on its own.
+     */
+    public int forkDepth = 12;
+
+    /**
+     * Subtrees are only given to other threads if their graph has at least this many vertices, because the
+     * graph has to be copied for the other thread.
+     */
+    public int minForkSize = 64;
+
+    /**
+     * Disjoint subGraphs with less vertices are solved together in the calling thread instead of getting their own
+     * task.
+     */
+    public int smallComponentSize = 32;
+
+    /**
+     * If not null, the time each disjoint subGraph took is added to it.
+     */
+    public ComponentTimes componentTimes = null;
+
+    /**
+     * If not null, counts what the search does.
+     */
+    public SearchStats stats = null;
+
+    /**
+     * If not null, K of small subGraphs and parts of splits is looked up in it before they are solved and stored in it
+     * afterwards. Which graphs count as small is set in the cache.
+     */
+    public ComponentCache componentCache = null;
+
+    /**
+     * If not null, the search tree looks up the graph of every node in it and stores whether it could be solved, so
+     * the same graph isn't searched twice (for example in the next try for K).
+     */
+    public TranspositionTable transpositionTable = null;
+}
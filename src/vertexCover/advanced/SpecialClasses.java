@@ -0,0 +1,200 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import core.IndexedGraph;
+
+import java.util.Arrays;
+
+/**
+ * Finds K of graphs from a {@link ComponentClass} that can be solved in polynomial time, so "SearchTree.findK" only
+ * has to search the {@link ComponentClass#GENERAL} ones. Everything runs on the int arrays of an
+ * {@link IndexedGraph}, the class of a graph is found with one breadth-first search that also colours it with two
+ * colours. Only if it is none of the simple classes, the width of a {@link TreeDecomposition} is estimated.
+ */
+class SpecialClasses {
+    private final IndexedGraph g;
+    private final int[] color;      //0 or 1 if the graph is bipartite
+    private TreeDecomposition decomposition;
+    final ComponentClass type;
+
+    /**
+     * @param maxTreeWidth See {@link SolverOptions#maxTreeWidth}
+     */
+    SpecialClasses(Graph graph, int maxTreeWidth) {
+        g = new IndexedGraph(graph);
+        color = new int[g.n];
+        ComponentClass simple = classify();
+        if (simple == ComponentClass.GENERAL && maxTreeWidth > 0) {
+            decomposition = TreeDecomposition.of(g, maxTreeWidth);
+            if (decomposition != null) {
+                simple = ComponentClass.LOW_TREEWIDTH;
+            }
+        }
+        type = simple;
+    }
+
+    /**
+     * @param g The target graph, is not changed
+     * @return K, or -1 if the graph needs the search tree
+     */
+    static int solve(Graph g, SolverOptions options) {
+        SpecialClasses special = new SpecialClasses(g, options.maxTreeWidth);
+        if (options.stats != null) {
+            options.stats.classes[special.type.ordinal()].increment();
+        }
+        return special.solve();
+    }
+
+    /**
+     * @return K, or -1 if the graph is {@link ComponentClass#GENERAL}
+     */
+    int solve() {
+        switch (type) {
+            case PATHS_AND_CYCLES:
+                return coverPathsAndCycles();
+            case FOREST:
+                return coverForest();
+            case BIPARTITE:
+                return maximumMatching();
+            case LOW_TREEWIDTH:
+                return decomposition.solve();
+            default:
+                return -1;
+        }
+    }
+
+    private ComponentClass classify() {
+        int n = g.n;
+        Arrays.fill(color, -1);
+        int[] queue = new int[n];
+        int components = 0;
+        int maxDegree = 0;
+        boolean bipartite = true;
+        for (int root = 0; root < n; root++) {
+            if (color[root] >= 0) {
+                continue;
+            }
+            components++;
+            color[root] = 0;
+            queue[0] = root;
+            int tail = 1;
+            for (int head = 0; head < tail; head++) {
+                int v = queue[head];
+                maxDegree = Math.max(maxDegree, g.degree(v));
+                for (int s = g.offsets[v]; s < g.offsets[v + 1]; s++) {
+                    int t = g.targets[s];
+                    if (color[t] < 0) {
+                        color[t] = 1 - color[v];
+                        queue[tail++] = t;
+                    } else if (color[t] == color[v]) {
+                        bipartite = false;
+                    }
+                }
+            }
+        }
+        if (maxDegree <= 2) {
+            return ComponentClass.PATHS_AND_CYCLES;
+        }
+        if (g.edgeCount() == n - components) {
+            return ComponentClass.FOREST;
+        }
+        return bipartite ? ComponentClass.BIPARTITE : ComponentClass.GENERAL;
+    }
+
+    /**
+     * Walks along every path from one of its ends first, whatever is left are cycles.
+     */
+    private int coverPathsAndCycles() {
+        boolean[] visited = new boolean[g.n];
+        int cover = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            for (int start = 0; start < g.n; start++) {
+                if (visited[start] || (pass == 0 && g.degree(start) == 2)) {
+                    continue;
+                }
+                int length = 0;
+                for (int v = start; v >= 0; ) {
+                    visited[v] = true;
+                    length++;
+                    int next = -1;
+                    for (int s = g.offsets[v]; s < g.offsets[v + 1]; s++) {
+                        if (!visited[g.targets[s]]) {
+                            next = g.targets[s];
+                            break;
+                        }
+                    }
+                    v = next;
+                }
+                cover += pass == 0 ? length / 2 : (length + 1) / 2;
+            }
+        }
+        return cover;
+    }
+
+    /**
+     * The neighbour of a leaf is always in some minimal cover: it covers the edge of the leaf and maybe more.
+     */
+    private int coverForest() {
+        int n = g.n;
+        int[] degree = new int[n];
+        boolean[] deleted = new boolean[n];
+        int[] leaves = new int[n];
+        int count = 0;
+        for (int v = 0; v < n; v++) {
+            degree[v] = g.degree(v);
+            if (degree[v] == 1) {
+                leaves[count++] = v;
+            }
+        }
+        int cover = 0;
+        //every vertex becomes a leaf at most once, so "leaves" doesn't overflow
+        while (count > 0) {
+            int leaf = leaves[--count];
+            if (deleted[leaf] || degree[leaf] != 1) {
+                continue;
+            }
+            int parent = -1;
+            for (int s = g.offsets[leaf]; parent < 0; s++) {
+                if (!deleted[g.targets[s]]) {
+                    parent = g.targets[s];
+                }
+            }
+            deleted[leaf] = true;
+            deleted[parent] = true;
+            cover++;
+            for (int s = g.offsets[parent]; s < g.offsets[parent + 1]; s++) {
+                int t = g.targets[s];
+                if (!deleted[t] && --degree[t] == 1) {
+                    leaves[count++] = t;
+                }
+            }
+        }
+        return cover;
+    }
+
+    /**
+     * In a bipartite graph a minimal vertex cover is as big as a maximum matching (Koenig's theorem). The vertices
+     * with colour 0 are the left side of the {@link BipartiteMatching}, the ones with colour 1 the right side.
+     */
+    private int maximumMatching() {
+        int n = g.n;
+        int[] side = new int[n];     //the number of every vertex on its side
+        int left = 0;
+        int right = 0;
+        for (int v = 0; v < n; v++) {
+            side[v] = color[v] == 0 ? left++ : right++;
+        }
+        int[] offsets = new int[left + 1];
+        int[] targets = new int[g.edgeCount()];
+        int pos = 0;
+        for (int v = 0; v < n; v++) {
+            if (color[v] == 0) {
+                for (int s = g.offsets[v]; s < g.offsets[v + 1]; s++) {
+                    targets[pos++] = side[g.targets[s]];
+                }
+                offsets[side[v] + 1] = pos;
+            }
+        }
+        return new BipartiteMatching(left, right, offsets, targets).size();
+    }
+}
@@ -0,0 +1,165 @@
+package vertexCover.advanced;
+
+import core.Graph;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers what the search tree found out about the graphs of its nodes, so a graph that is reached again (through
+ * another order of the branches, or in the next try for K) isn't searched again. Pass it with
+ * {@link SolverOptions#transpositionTable} to {@link SearchTree#minVertexCover(Graph, SolverOptions)}.
+ * <p>
+ * The key is {@link Graph#getHash()} of the reduced graph of a node. If a node couldn't be solved with "k" vertices,
+ * "k + 1" is a lower bound of K of its graph, and if it could, "k" is an upper bound. A node whose "k" is below the
+ * lower bound (or not below the upper bound) is answered without a search.
+ * <p>
+ * The table has a fixed number of entries, two for every hash bucket. If both are taken, the entry of an older try
+ * (its "age") is replaced first, otherwise the deeper one, because the nodes near the root saved more work. Every entry
+ * is two longs: the hash XOR the data and the data, so an entry that is read while another thread writes it is noticed
+ * and ignored (see "lockless transposition tables" by Hyatt and Mann). This way all threads of a
+ * {@link ParallelSearch} and all disjoint subGraphs can share one table without locks.
+ */
+public class TranspositionTable {
+    //the data of an entry: the bounds, the depth and the age in one long
+    private static final int BOUND_BITS = 21;
+    private static final long BOUND_MASK = (1L << BOUND_BITS) - 1;   //also means "no upper bound"
+    private static final int DEPTH_SHIFT = 2 * BOUND_BITS;
+    private static final long DEPTH_MASK = (1L << 10) - 1;
+    private static final int AGE_SHIFT = DEPTH_SHIFT + 10;
+    private static final long AGE_MASK = (1L << 11) - 1;
+    private static final long USED = 1L << 63;
+
+    private final long[] keys;
+    private final long[] data;
+    private final int mask;     //of the buckets
+    private final AtomicInteger age = new AtomicInteger();
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * @param entries The number of entries at most, rounded down to a power of two (16 bytes each)
+     */
+    public TranspositionTable(int entries) {
+        int size = Integer.highestOneBit(Math.max(2, entries));
+        keys = new long[size];
+        data = new long[size];
+        mask = size / 2 - 1;
+    }
+
+    /**
+     * The entries of the last try are still right, but the ones of the new try are more likely to be needed
+     */
+    void nextAge() {
+        age.incrementAndGet();
+    }
+
+    /**
+     * @param hash The hash of the graph of a node
+     * @param k    How many vertices the node may still take
+     * @return 1 if the graph can be covered with "k" vertices, -1 if it can't and 0 if that isn't known
+     */
+    int probe(long hash, int k) {
+        probes.increment();
+        int bucket = bucket(hash);
+        for (int slot = bucket; slot < bucket + 2; slot++) {
+            long d = data[slot];
+            if ((keys[slot] ^ d) == hash && (d & USED) != 0) {
+                int lower = (int) (d & BOUND_MASK);
+                long upper = (d >>> BOUND_BITS) & BOUND_MASK;
+                if (k < lower) {
+                    hits.increment();
+                    return -1;
+                }
+                if (upper != BOUND_MASK && k >= upper) {
+                    hits.increment();
+                    return 1;
+                }
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param solvable True if the graph can be covered with "k" vertices, false if it can't
+     * @param depth    The depth of the node in the search tree
+     */
+    void store(long hash, int k, boolean solvable, int depth) {
+        if (k < 0 || k + 1 >= BOUND_MASK)
+            return;
+        int currentAge = age.get();
+        int bucket = bucket(hash);
+        long lower = solvable ? 0 : k + 1;
+        long upper = solvable ? k : BOUND_MASK;
+        int victim = -1;
+        for (int slot = bucket; slot < bucket + 2 && victim < 0; slot++) {
+            long d = data[slot];
+            if ((d & USED) != 0 && (keys[slot] ^ d) == hash) {
+                //the same graph: both bounds are true, keep the better ones
+                lower = Math.max(lower, d & BOUND_MASK);
+                upper = Math.min(upper, (d >>> BOUND_BITS) & BOUND_MASK);
+                depth = Math.min(depth, (int) ((d >>> DEPTH_SHIFT) & DEPTH_MASK));
+                victim = slot;
+            }
+        }
+        if (victim < 0) {
+            victim = score(data[bucket], currentAge) >= score(data[bucket + 1], currentAge) ? bucket : bucket + 1;
+        }
+        long entry = USED | lower | upper << BOUND_BITS | Math.min(depth, DEPTH_MASK) << DEPTH_SHIFT
+                | (currentAge & AGE_MASK) << AGE_SHIFT;
+        data[victim] = entry;
+        keys[victim] = hash ^ entry;
+    }
+
+    /**
+     * @return How much an entry should be replaced: empty ones first, then the ones of older tries, then the deeper ones
+     */
+    private static long score(long d, int currentAge) {
+        if ((d & USED) == 0)
+            return Long.MAX_VALUE;
+        long stale = ((d >>> AGE_SHIFT) & AGE_MASK) != (currentAge & AGE_MASK) ? 1L << 20 : 0;
+        return stale + ((d >>> DEPTH_SHIFT) & DEPTH_MASK);
+    }
+
+    private int bucket(long hash) {
+        return ((int) (hash ^ (hash >>> 32)) & mask) * 2;
+    }
+
+    /**
+     * @return The number of entries
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * @return How many nodes looked up their graph
+     */
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    /**
+     * @return How many nodes were answered by the table without a search
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Removes all entries and sets the counters to 0
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(data, 0);
+        probes.reset();
+        hits.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d entries, %d probes, %d hits", capacity(), getProbes(), getHits());
+    }
+}
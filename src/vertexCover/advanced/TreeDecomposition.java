@@ -0,0 +1,203 @@
+package vertexCover.advanced;
+
+import core.IndexedGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Finds K of graphs with a small treewidth (see {@link SolverOptions#maxTreeWidth}) with dynamic programming over a
+ * tree decomposition instead of a search tree, in O(n * 2^width).
+ * <p>
+ * The decomposition comes from a min-degree elimination ordering: the vertex with the fewest neighbours is removed
+ * again and again, and its neighbours are made a clique. The bag of a vertex is the vertex plus its neighbours at the
+ * moment it is removed, the width is the size of the biggest bag minus one. It is a heuristic, but on sparse, nearly
+ * planar graphs like road or power networks it finds small widths.
+ * <p>
+ * The dynamic programming runs over the bags in the same order: the table of a bag has an entry for every subset of
+ * the bag without its vertex (an int as bitmask) and stores how many of the removed vertices below it are needed at
+ * least if exactly this subset is in the cover.
+ */
+class TreeDecomposition {
+    private final IndexedGraph g;
+    private final int[] order;      //the elimination ordering
+    private final int[][] bags;     //the neighbours of every vertex at the moment it is removed
+    final int width;
+
+    private TreeDecomposition(IndexedGraph g, int[] order, int[][] bags, int width) {
+        this.g = g;
+        this.order = order;
+        this.bags = bags;
+        this.width = width;
+    }
+
+    /**
+     * The tables have 2^width entries, so wider decompositions are never used
+     */
+    static final int WIDTH_LIMIT = 20;
+
+    /**
+     * @param maxWidth The ordering is stopped as soon as a bag would get wider than this (at most
+     *                 {@link #WIDTH_LIMIT})
+     * @return The decomposition, null if its width would be bigger than "maxWidth"
+     */
+    static TreeDecomposition of(IndexedGraph g, int maxWidth) {
+        maxWidth = Math.min(maxWidth, WIDTH_LIMIT);
+        int n = g.n;
+        int[][] adjacency = new int[n][];
+        int[] degree = new int[n];
+        PriorityQueue<Long> queue = new PriorityQueue<>();
+        for (int v = 0; v < n; v++) {
+            degree[v] = g.degree(v);
+            adjacency[v] = new int[Math.max(4, degree[v])];
+            System.arraycopy(g.targets, g.offsets[v], adjacency[v], 0, degree[v]);
+            queue.add((long) degree[v] << 32 | v);
+        }
+
+        boolean[] removed = new boolean[n];
+        int[] seen = new int[n];    //"stamp" of the last time a vertex was marked, so it doesn't have to be cleared
+        int stamp = 0;
+        int[] order = new int[n];
+        int[][] bags = new int[n][];
+        int width = 0;
+        for (int step = 0; step < n; step++) {
+            int v;
+            do {
+                long entry = queue.poll();
+                v = (int) entry;
+                if (!removed[v] && (int) (entry >>> 32) == degree[v])
+                    break;
+            } while (true);
+            if (degree[v] > maxWidth) {
+                return null;
+            }
+            int[] bag = Arrays.copyOf(adjacency[v], degree[v]);
+            removed[v] = true;
+            order[step] = v;
+            bags[v] = bag;
+            width = Math.max(width, bag.length);
+
+            for (int a : bag) {
+                //"v" is gone, its neighbours become a clique
+                int[] list = adjacency[a];
+                int pos = 0;
+                while (list[pos] != v) {
+                    pos++;
+                }
+                list[pos] = list[--degree[a]];
+                stamp++;
+                for (int i = 0; i < degree[a]; i++) {
+                    seen[adjacency[a][i]] = stamp;
+                }
+                for (int b : bag) {
+                    if (b != a && seen[b] != stamp) {
+                        if (degree[a] == adjacency[a].length) {
+                            adjacency[a] = Arrays.copyOf(adjacency[a], degree[a] * 2);
+                        }
+                        adjacency[a][degree[a]++] = b;
+                    }
+                }
+                queue.add((long) degree[a] << 32 | a);
+            }
+        }
+        return new TreeDecomposition(g, order, bags, width);
+    }
+
+    /**
+     * The table of a bag without its vertex, "scope" are the vertices of the bitmask
+     */
+    private static class Table {
+        final int[] scope;
+        final int[] values;
+
+        Table(int[] scope, int[] values) {
+            this.scope = scope;
+            this.values = values;
+        }
+    }
+
+    /**
+     * @return K
+     */
+    int solve() {
+        int n = g.n;
+        int[] position = new int[n];
+        for (int i = 0; i < n; i++) {
+            position[order[i]] = i;
+        }
+        List<List<Table>> waiting = new ArrayList<>(n);     //the tables every vertex gets when it is removed
+        for (int i = 0; i < n; i++) {
+            waiting.add(new ArrayList<>());
+        }
+        int[] bit = new int[n];     //the position of a vertex in the current bag
+        int result = 0;
+
+        for (int v : order) {
+            int[] bag = bags[v];
+            for (int i = 0; i < bag.length; i++) {
+                bit[bag[i]] = i;
+            }
+            //if "v" isn't in the cover, all of its edges to vertices that are removed later have to be covered
+            int required = 0;
+            for (int s = g.offsets[v]; s < g.offsets[v + 1]; s++) {
+                int t = g.targets[s];
+                if (position[t] > position[v]) {
+                    required |= 1 << bit[t];
+                }
+            }
+            List<Table> children = waiting.get(v);
+            int[][] shift = new int[children.size()][];  //where every bit of a child is in the bag, -1 for "v"
+            for (int c = 0; c < shift.length; c++) {
+                int[] scope = children.get(c).scope;
+                shift[c] = new int[scope.length];
+                for (int i = 0; i < scope.length; i++) {
+                    shift[c][i] = scope[i] == v ? -1 : bit[scope[i]];
+                }
+            }
+
+            int[] values = new int[1 << bag.length];
+            for (int mask = 0; mask < values.length; mask++) {
+                int in = 1 + childValues(children, shift, mask, 1);
+                if ((mask & required) == required) {
+                    in = Math.min(in, childValues(children, shift, mask, 0));
+                }
+                values[mask] = in;
+            }
+            waiting.set(v, null);
+
+            if (bag.length == 0) {
+                result += values[0];    //the last vertex of a connected component
+            } else {
+                int first = bag[0];
+                for (int u : bag) {
+                    if (position[u] < position[first]) {
+                        first = u;
+                    }
+                }
+                waiting.get(first).add(new Table(bag, values));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param mask    The vertices of the bag in the cover
+     * @param inCover 1 if "v" itself is in the cover, 0 otherwise
+     * @return The sum of the values of all children for this assignment
+     */
+    private static int childValues(List<Table> children, int[][] shift, int mask, int inCover) {
+        int sum = 0;
+        for (int c = 0; c < shift.length; c++) {
+            int index = 0;
+            int[] bits = shift[c];
+            for (int i = 0; i < bits.length; i++) {
+                int value = bits[i] < 0 ? inCover : (mask >>> bits[i]) & 1;
+                index |= value << i;
+            }
+            sum += children.get(c).values[index];
+        }
+        return sum;
+    }
+}
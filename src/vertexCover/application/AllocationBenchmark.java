@@ -0,0 +1,82 @@
+package vertexCover.application;
+
+import core.Graph;
+import vertexCover.advanced.SearchTree;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Measures how many bytes the solver allocates (the same number the "gc.alloc.rate" of a JMH GC profiler is
+ * calculated from): for the reduction rules and the whole search on every file in the data folder, and for the
+ * search on random graphs where most of the work is done in the search tree.
+ * Needs a JVM whose ThreadMXBean can count the allocated bytes per thread (for example HotSpot).
+ */
+public class AllocationBenchmark {
+    private static final String NAME_FORMATTER = "%-34s";
+    private static final int RANDOM_GRAPHS = 5;
+
+    public static void main(String[] args) throws IOException {
+        File[] files = new File("data").listFiles();
+        Arrays.sort(files);
+        System.out.println(String.format(NAME_FORMATTER, "File") + String.format(PrettyText.formatter, "Rules")
+                + String.format(PrettyText.formatter, "Solve") + "Time solve");
+        for (File file : files) {
+            Graph g = new Graph(file);
+            int safePoint = g.getSafePoint();
+
+            long bytes = allocatedBytes();
+            SearchTree.applyRules(g);
+            long rules = allocatedBytes() - bytes;
+            g.restore(safePoint);
+
+            bytes = allocatedBytes();
+            long startTime = System.nanoTime();
+            SearchTree.minVertexCover(g);
+            long time = System.nanoTime() - startTime;
+            long solve = allocatedBytes() - bytes;
+            g.restore(safePoint);
+
+            System.out.println(String.format(NAME_FORMATTER, file.getName())
+                    + String.format(PrettyText.formatter, megabytes(rules))
+                    + String.format(PrettyText.formatter, megabytes(solve)) + millis(time));
+        }
+
+        for (int seed = 0; seed < RANDOM_GRAPHS; seed++) {
+            Graph g = randomGraph(seed, 150, 400);
+            long bytes = allocatedBytes();
+            long startTime = System.nanoTime();
+            SearchTree.minVertexCover(g);
+            long time = System.nanoTime() - startTime;
+            long solve = allocatedBytes() - bytes;
+
+            System.out.println(String.format(NAME_FORMATTER, "random 150 / 400, seed " + seed)
+                    + String.format(PrettyText.formatter, "")
+                    + String.format(PrettyText.formatter, megabytes(solve)) + millis(time));
+        }
+    }
+
+    private static Graph randomGraph(long seed, int vertices, int edges) {
+        Random random = new Random(seed);
+        Graph g = new Graph();
+        for (int i = 0; i < edges; i++) {
+            g.addEdge(random.nextInt(vertices), random.nextInt(vertices));
+        }
+        return g;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private static String megabytes(long bytes) {
+        return String.format("%.1f MB", bytes / 1_000_000.0);
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f ms", nanos / 1_000_000.0);
+    }
+}
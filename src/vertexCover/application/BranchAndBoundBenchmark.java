@@ -0,0 +1,55 @@
+package vertexCover.application;
+
+import core.Graph;
+import vertexCover.advanced.SearchStats;
+import vertexCover.advanced.SearchTree;
+import vertexCover.advanced.SolverOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Compares the iterative search for K (decision mode) with the single branch-and-bound search (optimisation mode)
+ * on every file in the data folder. Prints the number of visited nodes of the search tree and the average time.
+ */
+public class BranchAndBoundBenchmark {
+    private static final int RUNS = 5;
+    private static final String NAME_FORMATTER = "%-34s";
+
+    public static void main(String[] args) throws IOException {
+        File[] files = new File("data").listFiles();
+        Arrays.sort(files);
+        System.out.println(String.format(NAME_FORMATTER, "File") + String.format(PrettyText.formatter, "Mode")
+                + String.format(PrettyText.formatter, "Result") + String.format(PrettyText.formatter, "Nodes")
+                + "Time");
+        for (File file : files) {
+            Graph g = new Graph(file);
+            run(g, file.getName(), false);
+            run(g, file.getName(), true);
+        }
+    }
+
+    private static void run(Graph g, String name, boolean branchAndBound) {
+        SolverOptions options = new SolverOptions();
+        options.branchAndBound = branchAndBound;
+        options.stats = new SearchStats();
+
+        int safePoint = g.getSafePoint();
+        int result = SearchTree.minVertexCover(g, options);
+        g.restore(safePoint);
+        long nodes = options.stats.getNodes();
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            SearchTree.minVertexCover(g, options);
+            g.restore(safePoint);
+        }
+        long time = (System.nanoTime() - startTime) / RUNS;
+
+        System.out.println(String.format(NAME_FORMATTER, name)
+                + String.format(PrettyText.formatter, branchAndBound ? "branch-and-bound" : "iterative")
+                + String.format(PrettyText.formatter, result) + String.format(PrettyText.formatter, nodes)
+                + String.format("%.1f ms", time / 1_000_000.0));
+    }
+}
@@ -0,0 +1,59 @@
+package vertexCover.application;
+
+import core.Graph;
+import vertexCover.advanced.ComponentClass;
+import vertexCover.advanced.SearchStats;
+import vertexCover.advanced.SearchTree;
+import vertexCover.advanced.SolverOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Prints for every file in the data folder how many of the graphs "SearchTree.findK" got belong to each
+ * {@link ComponentClass}, so you can see how often a search is saved. The time with and without the check is
+ * printed too.
+ */
+public class ComponentClassBenchmark {
+    private static final String NAME_FORMATTER = "%-34s";
+    private static final String CLASS_FORMATTER = "%-18s";
+
+    public static void main(String[] args) throws IOException {
+        File[] files = new File("data").listFiles();
+        Arrays.sort(files);
+        StringBuilder header = new StringBuilder(String.format(NAME_FORMATTER, "File"));
+        for (ComponentClass type : ComponentClass.values()) {
+            header.append(String.format(CLASS_FORMATTER, type));
+        }
+        System.out.println(header + String.format(PrettyText.formatter, "Time") + "Time without");
+        for (File file : files) {
+            Graph g = new Graph(file);
+            int safePoint = g.getSafePoint();
+
+            SolverOptions options = new SolverOptions();
+            options.stats = new SearchStats();
+            long startTime = System.nanoTime();
+            SearchTree.minVertexCover(g, options);
+            long time = System.nanoTime() - startTime;
+            g.restore(safePoint);
+
+            SolverOptions without = new SolverOptions();
+            without.specialClasses = false;
+            startTime = System.nanoTime();
+            SearchTree.minVertexCover(g, without);
+            long timeWithout = System.nanoTime() - startTime;
+            g.restore(safePoint);
+
+            StringBuilder line = new StringBuilder(String.format(NAME_FORMATTER, file.getName()));
+            for (ComponentClass type : ComponentClass.values()) {
+                line.append(String.format(CLASS_FORMATTER, options.stats.getHits(type)));
+            }
+            System.out.println(line + String.format(PrettyText.formatter, millis(time)) + millis(timeWithout));
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f ms", nanos / 1_000_000.0);
+    }
+}
@@ -1,51 +1,189 @@
 package vertexCover.application;
 
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Random;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * This class generates custom graphs for testing your implementation.
  * This comes in useful if all the given graphs are to easy/hard for your current implementation and you can't really
  * get feedback for this reason.
  * <p>
- * Note: there may be less than vertexRange vertices and less than "lines" lines as the are generated randomly
- * and these variables just set the bounds.
+ * The edges of a {@link GraphFamily} are generated in blocks on all cores and written to the file in their order
+ * while the next blocks are generated, so only a few blocks are in memory at once and the graphs can be far bigger
+ * than the heap. The same seed always gives the same file, no matter how many threads are used.
+ * <p>
+ * Usage: Generator FILE FAMILY PARAMETERS... [seed=S] [threads=T]
+ * <ul>
+ * <li>random N M: Erdos-Renyi G(n, m)</li>
+ * <li>powerlaw N D: Barabasi-Albert with D edges per vertex</li>
+ * <li>grid ROWS COLS [KEEP]: a grid like a road network, every edge is kept with the probability KEEP</li>
+ * <li>planted N K M: a graph whose minimal vertex cover has exactly K vertices</li>
+ * </ul>
+ * A FILE ending with ".bin" gets the binary format of {@link core.EdgeList} (two 4 byte IDs per edge), otherwise one
+ * edge per line as text. Text files of planted graphs start with a comment that contains K.
  */
 public class Generator {
-    private final static int VERTEX_RANGE = 5000;
-    private final static int EDGE_COUNT = 6000;
-    private final static String PATH = "data\\_pers"; //uses underscore so that it's sorted at the start
+    private static final int BLOCK_SIZE = 1 << 20;     //edges per block
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            System.out.println("Usage: Generator FILE random N M | powerlaw N D | grid ROWS COLS [KEEP]"
+                    + " | planted N K M [seed=S] [threads=T]");
+            return;
+        }
+        long seed = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String[] params = new String[args.length];
+        int count = 0;
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].startsWith("seed=")) {
+                seed = Long.parseLong(args[i].substring(5));
+            } else if (args[i].startsWith("threads=")) {
+                threads = Integer.parseInt(args[i].substring(8));
+            } else {
+                params[count++] = args[i];
+            }
+        }
+        GraphFamily family;
+        switch (args[1]) {
+            case "random":
+                family = GraphFamily.random(Integer.parseInt(params[0]), Long.parseLong(params[1]), seed);
+                break;
+            case "powerlaw":
+                family = GraphFamily.powerLaw(Integer.parseInt(params[0]), Integer.parseInt(params[1]), seed);
+                break;
+            case "grid":
+                family = GraphFamily.grid(Integer.parseInt(params[0]), Integer.parseInt(params[1]),
+                        count > 2 ? Double.parseDouble(params[2]) : 1, seed);
+                break;
+            case "planted":
+                family = GraphFamily.planted(Integer.parseInt(params[0]), Integer.parseInt(params[1]),
+                        Long.parseLong(params[2]), seed);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown graph family: " + args[1]);
+        }
 
-    public static void main(String[] args) throws IOException {
-        generateGraph(VERTEX_RANGE, EDGE_COUNT);
+        Path file = Paths.get(args[0]);
+        long startTime = System.nanoTime();
+        long edges = write(family, file, file.toString().endsWith(".bin"), threads);
+        System.out.println("New graph generated: " + file);
+        System.out.println("#Edges: " + edges);
+        if (family.optimum() >= 0) {
+            System.out.println("K: " + family.optimum());
+        }
+        System.out.println("Time: " + PrettyText.prettyTime(System.nanoTime() - startTime));
     }
 
     /**
-     * @param vertexRange The maximum ID for the vertices.
-     * @param lines       The number of edges.
+     * @param binary  True for the binary format, false for text
+     * @param threads How many blocks are generated at the same time
+     * @return The number of edges written
      * @throws IOException because you maybe don't have permission to write on this path
      */
-    private static void generateGraph(int vertexRange, int lines) throws IOException {
-        File f = new File(PATH);
-        Random r = new Random();
-        BufferedWriter w = new BufferedWriter(new FileWriter(f));
-        for (int i = 0; i < lines; i++) {
-
-            //generates 2 DIFFERENT Integers
-            int a = 0, b = 0;
-            while (a == b) {
-                a = r.nextInt(vertexRange);
-                b = r.nextInt(vertexRange);
+    public static long write(GraphFamily family, Path file, boolean binary, int threads)
+            throws IOException, InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (!binary && family.optimum() >= 0) {
+                writeFully(out, ByteBuffer.wrap(("% planted cover, K = " + family.optimum() + "\n").getBytes()));
+            }
+            long blocks = (family.edgeCount() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            Queue<Future<Block>> pending = new ArrayDeque<>();
+            long next = 0;
+            long written = 0;
+            while (next < blocks || !pending.isEmpty()) {
+                //a few blocks ahead, so the threads don't wait for the file and the heap doesn't fill up
+                while (next < blocks && pending.size() < 2 * threads) {
+                    long first = next++ * BLOCK_SIZE;
+                    int size = (int) Math.min(BLOCK_SIZE, family.edgeCount() - first);
+                    pending.add(pool.submit(() -> binary ? binaryBlock(family, first, size)
+                            : textBlock(family, first, size)));
+                }
+                Block block = pending.poll().get();
+                written += block.edges;
+                writeFully(out, block.bytes);
             }
+            return written;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
 
-            w.write(r.nextInt(vertexRange) + " " + r.nextInt(vertexRange) + "\n");
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * The bytes of some edges for the file
+     */
+    private static class Block {
+        final ByteBuffer bytes;
+        final long edges;       //without the skipped ones
+
+        Block(ByteBuffer bytes, long edges) {
+            bytes.flip();
+            this.bytes = bytes;
+            this.edges = edges;
+        }
+    }
+
+    private static Block binaryBlock(GraphFamily family, long first, int size) {
+        ByteBuffer buffer = ByteBuffer.allocate(size * 8);
+        long edges = 0;
+        for (long e = first; e < first + size; e++) {
+            long edge = family.edge(e);
+            if (edge != -1) {
+                buffer.putLong(edge);
+                edges++;
+            }
+        }
+        return new Block(buffer, edges);
+    }
+
+    private static Block textBlock(GraphFamily family, long first, int size) {
+        ByteBuffer buffer = ByteBuffer.allocate(size * 22);    //two IDs with 10 digits, a space and "\n"
+        byte[] digits = new byte[10];
+        long edges = 0;
+        for (long e = first; e < first + size; e++) {
+            long edge = family.edge(e);
+            if (edge != -1) {
+                putNumber(buffer, (int) (edge >>> 32), digits);
+                buffer.put((byte) ' ');
+                putNumber(buffer, (int) edge, digits);
+                buffer.put((byte) '\n');
+                edges++;
+            }
+        }
+        return new Block(buffer, edges);
+    }
+
+    /**
+     * Writes the digits of a non-negative number without creating a String
+     */
+    private static void putNumber(ByteBuffer buffer, int v, byte[] digits) {
+        int count = 0;
+        do {
+            digits[count++] = (byte) ('0' + v % 10);
+            v /= 10;
+        } while (v != 0);
+        while (count > 0) {
+            buffer.put(digits[--count]);
         }
-        w.close();
-        System.out.println("New graph generated");
-        System.out.println("Vertex-Range: " + vertexRange);
-        System.out.println("#Lines: " + lines);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,187 @@
+package vertexCover.application;
+
+import core.Graph;
+
+/**
+ * A family of generated graphs for the {@link Generator}. Every edge is a function of its number and the seed only
+ * (the random numbers come from a hash of both instead of a {@link java.util.Random} that is used in order), so any
+ * part of the edges can be generated on its own: the threads of the generator each take a block and the result is
+ * the same file for every number of threads.
+ * <p>
+ * The edges may contain duplicates and self-loops, which {@link core.EdgeList} drops when the graph is read.
+ */
+public abstract class GraphFamily {
+    final long seed;
+
+    private GraphFamily(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return How many edges (including the skipped ones, see {@link #edge(long)}) there are
+     */
+    public abstract long edgeCount();
+
+    /**
+     * @param e The number of the edge, 0 up to {@link #edgeCount()} - 1
+     * @return The two IDs packed into a long (the first one in the upper 32 bits), -1 if there is no such edge
+     */
+    public abstract long edge(long e);
+
+    /**
+     * @return K of the graph if the family knows it, -1 otherwise
+     */
+    public int optimum() {
+        return -1;
+    }
+
+    /**
+     * @return The whole graph in memory, for graphs that fit into it
+     */
+    public Graph toGraph() {
+        Graph g = new Graph();
+        for (long e = 0; e < edgeCount(); e++) {
+            long edge = edge(e);
+            if (edge != -1) {
+                g.addEdge((int) (edge >>> 32), (int) edge);
+            }
+        }
+        return g;
+    }
+
+    static long pack(int v, int w) {
+        return (long) v << 32 | (w & 0xFFFFFFFFL);
+    }
+
+    /**
+     * The finalizer of SplitMix64: a different, well mixed number for every "e" and "salt"
+     */
+    long hash(long e, int salt) {
+        long z = seed + e * 0x9E3779B97F4A7C15L + salt * 0xD1B54A32D192ED03L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return A number from 0 up to "bound" - 1
+     */
+    long uniform(long e, int salt, long bound) {
+        return (hash(e, salt) >>> 1) % bound;
+    }
+
+    /**
+     * Erdos-Renyi G(n, m): "m" edges between two random vertices each. The edges are drawn independently, so for
+     * dense graphs some of them are duplicates.
+     */
+    public static GraphFamily random(int n, long m, long seed) {
+        return new GraphFamily(seed) {
+            @Override
+            public long edgeCount() {
+                return m;
+            }
+
+            @Override
+            public long edge(long e) {
+                return pack((int) uniform(e, 0, n), (int) uniform(e, 1, n));
+            }
+        };
+    }
+
+    /**
+     * Barabasi-Albert: every vertex from 1 up to n - 1 gets "d" edges to older vertices, picked with a probability
+     * proportional to their degree (power law). Like in the usual implementation, the other end of an edge is a
+     * random entry of the list of the ends of the edges of all older vertices. Only here, the list doesn't exist: if
+     * the entry is the other end of an older edge, that edge is computed the same way, until the entry is a vertex
+     * that added its edge (which is its number divided by "d"). Vertex 0 is the first end of all.
+     */
+    public static GraphFamily powerLaw(int n, int d, long seed) {
+        return new GraphFamily(seed) {
+            @Override
+            public long edgeCount() {
+                return (long) (n - 1) * d;
+            }
+
+            @Override
+            public long edge(long e) {
+                return pack((int) (e / d + 1), target(e));
+            }
+
+            private int target(long e) {
+                while (true) {
+                    long older = e / d * d;     //the edges of the vertices before the one of edge "e"
+                    if (older == 0) {
+                        return 0;
+                    }
+                    //the ends of edge "i" are at 2 * i (the new vertex) and 2 * i + 1 (the older one)
+                    long entry = uniform(e, 0, 2 * older);
+                    if ((entry & 1) == 0) {
+                        return (int) (entry / 2 / d + 1);
+                    }
+                    e = entry / 2;
+                }
+            }
+        };
+    }
+
+    /**
+     * A grid of "rows" times "cols" vertices like a road network: every vertex has an edge to its right and to its
+     * lower neighbour, each one is only kept with the probability "keep" (1 for the full grid).
+     */
+    public static GraphFamily grid(int rows, int cols, double keep, long seed) {
+        long threshold = (long) (keep * (1L << 53));
+        return new GraphFamily(seed) {
+            @Override
+            public long edgeCount() {
+                return 2L * rows * cols;
+            }
+
+            @Override
+            public long edge(long e) {
+                int v = (int) (e / 2);
+                boolean right = (e & 1) == 0;
+                if (right ? v % cols == cols - 1 : v / cols == rows - 1) {
+                    return -1;      //the border
+                }
+                if (keep < 1 && hash(e, 0) >>> 11 >= threshold) {
+                    return -1;
+                }
+                return pack(v, right ? v + 1 : v + cols);
+            }
+        };
+    }
+
+    /**
+     * A graph with a known K: the vertices 0 up to k - 1 are the cover, every edge has at least one end in it. The
+     * first "k" edges are a matching (vertex i with vertex k + i), so no cover can be smaller than "k". The other
+     * edges go from a random vertex of the cover to any random vertex.
+     *
+     * @param n At least 2 * k
+     * @param m At least k
+     */
+    public static GraphFamily planted(int n, int k, long m, long seed) {
+        if (n < 2 * k || m < k) {
+            throw new IllegalArgumentException("A planted cover of " + k + " needs at least " + 2 * k
+                    + " vertices and " + k + " edges!");
+        }
+        return new GraphFamily(seed) {
+            @Override
+            public long edgeCount() {
+                return m;
+            }
+
+            @Override
+            public long edge(long e) {
+                if (e < k) {
+                    return pack((int) e, (int) (k + e));
+                }
+                return pack((int) uniform(e, 0, k), (int) uniform(e, 1, n));
+            }
+
+            @Override
+            public int optimum() {
+                return k;
+            }
+        };
+    }
+}
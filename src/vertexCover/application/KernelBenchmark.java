@@ -0,0 +1,57 @@
+package vertexCover.application;
+
+import core.Graph;
+import core.Instance;
+import vertexCover.advanced.SearchTree;
+import vertexCover.advanced.SolverOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Shows how much the preprocessing shrinks the graphs in the data folder: the size of the kernel after the
+ * reduction rules and after the additional LP kernel, together with the time each of them took.
+ */
+public class KernelBenchmark {
+    private static final String NAME_FORMATTER = "%-34s";
+
+    public static void main(String[] args) throws IOException {
+        File[] files = new File("data").listFiles();
+        Arrays.sort(files);
+        System.out.println(String.format(NAME_FORMATTER, "File") + String.format(PrettyText.formatter, "Input")
+                + String.format(PrettyText.formatter, "Rules") + String.format(PrettyText.formatter, "Rules + LP")
+                + String.format(PrettyText.formatter, "Time rules") + "Time rules + LP");
+        for (File file : files) {
+            Graph g = new Graph(file);
+            String input = size(g);
+
+            int safePoint = g.getSafePoint();
+            long startTime = System.nanoTime();
+            SearchTree.applyRules(g);
+            long rulesTime = System.nanoTime() - startTime;
+            String rules = size(g);
+            g.restore(safePoint);
+
+            SolverOptions options = new SolverOptions();
+            options.lpKernel = true;
+            startTime = System.nanoTime();
+            Instance kernel = SearchTree.kernelize(g, options);
+            long lpTime = System.nanoTime() - startTime;
+            String lp = size(kernel.graph);
+            g.restore(safePoint);
+
+            System.out.println(String.format(NAME_FORMATTER, file.getName()) + String.format(PrettyText.formatter, input)
+                    + String.format(PrettyText.formatter, rules) + String.format(PrettyText.formatter, lp)
+                    + String.format(PrettyText.formatter, millis(rulesTime)) + millis(lpTime));
+        }
+    }
+
+    private static String size(Graph g) {
+        return g.size() + " / " + g.getEdgeCount();
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f ms", nanos / 1_000_000.0);
+    }
+}
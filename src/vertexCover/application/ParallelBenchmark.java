@@ -0,0 +1,54 @@
+package vertexCover.application;
+
+import core.Graph;
+import vertexCover.advanced.SearchTree;
+import vertexCover.advanced.SolverOptions;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Measures the speedup of the parallel search tree for 1, 2, 4, ... threads (up to the number of cores).
+ * Takes the files as arguments, without arguments the harder files in the data folder are used.
+ */
+public class ParallelBenchmark {
+    private static final int RUNS = 5;
+    private static final String[] HARD_FILES = {"bio-dmela.mtx", "soc-brightkite.mtx", "inf-openflights.edges",
+            "out.arenas-email", "out.adjnoun_adjacency_adjacency"};
+
+    public static void main(String[] args) throws IOException {
+        String[] names = args.length > 0 ? args : HARD_FILES;
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (String name : names) {
+            File file = name.contains(File.separator) ? new File(name) : new File("data", name);
+            Graph g = new Graph(file);
+            System.out.println("### " + file.getName() + ":");
+
+            long singleThread = 0;
+            for (int threads = 1; threads <= cores; threads *= 2) {
+                SolverOptions options = new SolverOptions();
+                options.parallelism = threads;
+                long time = averageTime(g, options);
+                if (threads == 1) {
+                    singleThread = time;
+                }
+                System.out.println(String.format(PrettyText.formatter, threads + " Threads:")
+                        + String.format("%-30s", PrettyText.prettyTime(time))
+                        + String.format("Speedup: %.2f", (double) singleThread / time));
+            }
+            System.out.println();
+        }
+    }
+
+    private static long averageTime(Graph g, SolverOptions options) {
+        int safePoint = g.getSafePoint();
+        SearchTree.minVertexCover(g, options);      //warm up
+        g.restore(safePoint);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            SearchTree.minVertexCover(g, options);
+            g.restore(safePoint);
+        }
+        return (System.nanoTime() - startTime) / RUNS;
+    }
+}
@@ -0,0 +1,66 @@
+package vertexCover.application;
+
+import core.Graph;
+import vertexCover.advanced.ReductionRule;
+import vertexCover.advanced.SearchStats;
+import vertexCover.advanced.SearchTree;
+import vertexCover.advanced.SolverOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Prints what the search tree did on every file in the data folder: the nodes, how deep it got, why nodes were cut
+ * off and how often each reduction rule changed the graph (and how long it took). Below every file the nodes of
+ * each try for K are listed. With "-XX:StartFlightRecording" the same numbers end up in the JFR recording.
+ */
+public class SearchStatsBenchmark {
+    private static final String NAME_FORMATTER = "%-34s";
+    private static final String RULE_FORMATTER = "%-26s";
+
+    public static void main(String[] args) throws IOException {
+        File[] files = new File("data").listFiles();
+        Arrays.sort(files);
+        StringBuilder header = new StringBuilder(String.format(NAME_FORMATTER, "File")
+                + String.format(PrettyText.formatter, "Nodes") + String.format(PrettyText.formatter, "Max depth")
+                + String.format(PrettyText.formatter, "Bound prunes")
+                + String.format(PrettyText.formatter, "Reduction prunes"));
+        for (ReductionRule rule : ReductionRule.values()) {
+            header.append(String.format(RULE_FORMATTER, rule));
+        }
+        System.out.println(header);
+        for (File file : files) {
+            Graph g = new Graph(file);
+            SolverOptions options = new SolverOptions();
+            options.stats = new SearchStats();
+            SearchTree.minVertexCover(g, options);
+            SearchStats stats = options.stats;
+
+            StringBuilder line = new StringBuilder(String.format(NAME_FORMATTER, file.getName())
+                    + String.format(PrettyText.formatter, stats.getNodes())
+                    + String.format(PrettyText.formatter, stats.getMaxDepth())
+                    + String.format(PrettyText.formatter, stats.getBoundPrunes())
+                    + String.format(PrettyText.formatter, stats.getReductionPrunes()));
+            for (ReductionRule rule : ReductionRule.values()) {
+                line.append(String.format(RULE_FORMATTER, stats.getHits(rule) + " in " + millis(stats.getNanos(rule))));
+            }
+            System.out.println(line);
+
+            long[] perK = stats.getNodesPerK();
+            StringBuilder tries = new StringBuilder();
+            for (int k = 0; k < perK.length; k++) {
+                if (perK[k] > 0) {
+                    tries.append(" k=").append(k).append(": ").append(perK[k]);
+                }
+            }
+            if (tries.length() > 0) {
+                System.out.println(String.format(NAME_FORMATTER, "") + "nodes per try:" + tries);
+            }
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f ms", nanos / 1_000_000.0);
+    }
+}
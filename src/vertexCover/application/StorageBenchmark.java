@@ -0,0 +1,69 @@
+package vertexCover.application;
+
+import core.Adjacency;
+import core.CsrAdjacency;
+import core.Graph;
+import core.HashAdjacency;
+import vertexCover.advanced.SearchTree;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Compares the different {@link Adjacency} implementations on all files in the data folder.
+ * For each of them it prints the heap a loaded {@link Graph} keeps alive, the time for loading it and the average time
+ * for solving it. Run it with a fixed heap (for example -Xms2g -Xmx2g), otherwise the heap numbers are less reliable.
+ */
+public class StorageBenchmark {
+    private static final int RUNS = 10;
+    private static final String NAME_FORMATTER = "%-34s";
+
+    public static void main(String[] args) throws IOException {
+        File[] files = new File("data").listFiles();
+        Arrays.sort(files);
+        System.out.println(String.format(NAME_FORMATTER, "File") + String.format(PrettyText.formatter, "Storage")
+                + String.format(PrettyText.formatter, "Heap (KB)") + String.format(PrettyText.formatter, "Load")
+                + "Solve");
+        for (File file : files) {
+            run(file, "HashAdjacency", HashAdjacency::new);
+            run(file, "CsrAdjacency", CsrAdjacency::new);
+        }
+    }
+
+    private static void run(File file, String name, Supplier<Adjacency> storage) throws IOException {
+        new Graph(file, storage.get());     //warm up
+        long heapBefore = usedHeap();
+        long startTime = System.nanoTime();
+        Graph g = new Graph(file, storage.get());
+        long loadTime = System.nanoTime() - startTime;
+        long heap = usedHeap() - heapBefore;
+
+        int safePoint = g.getSafePoint();
+        SearchTree.minVertexCover(g);
+        g.restore(safePoint);
+        startTime = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            SearchTree.minVertexCover(g);
+            g.restore(safePoint);
+        }
+        long solveTime = (System.nanoTime() - startTime) / RUNS;
+
+        System.out.println(String.format(NAME_FORMATTER, file.getName()) + String.format(PrettyText.formatter, name)
+                + String.format(PrettyText.formatter, heap / 1024) + String.format(PrettyText.formatter,
+                millis(loadTime)) + millis(solveTime));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f ms", nanos / 1_000_000.0);
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
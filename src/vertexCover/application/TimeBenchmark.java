@@ -1,9 +1,11 @@
 package vertexCover.application;
 
 import core.Graph;
+import vertexCover.advanced.CancellationToken;
+import vertexCover.advanced.SearchTree;
+import vertexCover.advanced.SolverOptions;
 
 import java.io.*;
-import java.util.concurrent.*;
 
 /**
  * This class is just used for checking the runtime and getting information about the graphs.
@@ -22,7 +24,6 @@ public class TimeBenchmark {
 
     private static void runAllFiles(int runs) throws IOException {
         System.out.println("Running the algorithm on each file " + runs + " times and printing the last result:\n");
-        ExecutorService es = Executors.newSingleThreadExecutor();
 
         //the name of the folder which contains the text files for the graphs
         File dir = new File("data");
@@ -36,33 +37,26 @@ public class TimeBenchmark {
 
             for (int i = 1; i <= runs; i++) {
 
-                //We use threads with a timeout so you can also include graphs that are too big to handle.
-                //After TIMEOUT seconds, the calculations on this graph are cancelled and the next graph is started.
+                //The search gets a deadline so you can also include graphs that are too big to handle.
+                //After TIMEOUT seconds, the search stops and the next graph is started.
                 final long TIMEOUT = 300; // sec
-                Future f;
-                if (i == runs) {
-                    f = es.submit(() -> PrettyText.printResult(g, true));
-                } else {
-                    f = es.submit(() -> PrettyText.printResult(g, false));
-                }
-                try {
-                    f.get(TIMEOUT, TimeUnit.SECONDS);
+                CancellationToken deadline = CancellationToken.withTimeout(TIMEOUT * 1000);
+                //only K is timed, "SearchTree.solve" also finds the cover
+                int safePoint = g.getSafePoint();
+                int result = SearchTree.minVertexCover(g, new SolverOptions(), deadline);
+                g.restore(safePoint);
+                if (result >= 0) {
                     successfulRuns++;
-                } catch (TimeoutException e) {
-                    f.cancel(true);
+                    if (i == runs)
+                        System.out.println("\n" + String.format(PrettyText.formatter, "Result:") + result);
+                } else {
                     System.out.println("Timeout after " + TIMEOUT + " seconds!");
-                } catch (InterruptedException e) {
-                    System.out.println("Interrupt!");
-                } catch (ExecutionException e) {
-                    e.printStackTrace();
                 }
             }
-
             System.out.println(String.format(PrettyText.formatter, "Average time:")
                     + PrettyText.prettyTime((System.nanoTime() - startTime) / runs) + "\n"
                     + String.format(PrettyText.formatter, "Runs in time:") + successfulRuns
                     + "\n\n---------------------------------------------------\n");
         }
-        es.shutdown();
     }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package vertexCover.application;
+
+import core.Graph;
+import vertexCover.advanced.GraphUtil;
+import vertexCover.advanced.LowerBound;
+import vertexCover.advanced.SearchTree;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Prints for every file in the data folder how far the upper bounds are away from the optimum: the greedy one and
+ * the one of the local search with a growing time budget. The bounds are calculated on the whole graph without the
+ * reduction rules, because the rules already solve most of the files on their own.
+ */
+public class UpperBoundBenchmark {
+    private static final String NAME_FORMATTER = "%-34s";
+    private static final String COLUMN_FORMATTER = "%-12s";
+    private static final long[] BUDGETS = {1, 10, 100, 1000};
+
+    public static void main(String[] args) throws IOException {
+        File[] files = new File("data").listFiles();
+        Arrays.sort(files);
+        StringBuilder header = new StringBuilder(String.format(NAME_FORMATTER, "File"));
+        header.append(String.format(COLUMN_FORMATTER, "Lower")).append(String.format(COLUMN_FORMATTER, "Optimum"))
+                .append(String.format(COLUMN_FORMATTER, "Greedy"));
+        for (long budget : BUDGETS) {
+            header.append(String.format(COLUMN_FORMATTER, budget + " ms"));
+        }
+        System.out.println(header);
+        System.out.println("(the upper bounds as gap to the optimum)");
+
+        for (File file : files) {
+            Graph g = new Graph(file);
+            int safePoint = g.getSafePoint();
+            int optimum = SearchTree.minVertexCover(g);
+            g.restore(safePoint);
+
+            StringBuilder line = new StringBuilder(String.format(NAME_FORMATTER, file.getName()));
+            line.append(String.format(COLUMN_FORMATTER, LowerBound.MATCHING.compute(g)))
+                    .append(String.format(COLUMN_FORMATTER, optimum))
+                    .append(gap(g, 0, optimum));
+            for (long budget : BUDGETS) {
+                line.append(gap(g, budget, optimum));
+            }
+            System.out.println(line);
+        }
+    }
+
+    private static String gap(Graph g, long millis, int optimum) {
+        return String.format(COLUMN_FORMATTER, "+" + (GraphUtil.getUpperBoundCover(g, millis).length - optimum));
+    }
+}
@@ -0,0 +1,53 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentsTest {
+
+    private Graph build() {
+        Graph g = new Graph();
+        g.addEdge(1, 2);
+        g.addEdge(2, 3);
+        g.addEdge(10, 11);
+        g.addVertex(20);
+        return g;
+    }
+
+    @Test
+    void labels() {
+        Components components = new Components(build());
+        assertEquals(3, components.count);
+        assertEquals(components.componentOf(1), components.componentOf(3));
+        assertNotEquals(components.componentOf(1), components.componentOf(10));
+        assertEquals(-1, components.componentOf(99));
+        assertEquals(3, components.size(components.componentOf(2)));
+        assertEquals(1, components.size(components.componentOf(20)));
+    }
+
+    @Test
+    void disjointGraphs() {
+        Graph g = build();
+        Set<Graph> graphs = g.getDisjointGraphs();
+        assertEquals(3, graphs.size());
+        int vertices = 0;
+        int edges = 0;
+        for (Graph sub : graphs) {
+            assertTrue(sub.isConnected());
+            vertices += sub.size();
+            edges += sub.getEdgeCount();
+        }
+        assertEquals(g.size(), vertices);
+        assertEquals(g.getEdgeCount(), edges);
+
+        //the subGraphs share nothing with the original graph
+        for (Graph sub : graphs) {
+            sub.getVertices().forEach(sub::deleteVertex);
+        }
+        assertEquals(6, g.size());
+        assertTrue(g.adjacent(2, 3));
+    }
+}
@@ -0,0 +1,53 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoverLogTest {
+
+    private static int[] sorted(int[] cover) {
+        Arrays.sort(cover);
+        return cover;
+    }
+
+    @Test
+    void fold() {
+        //the path 1 - 2 - 3 - 4 - 5: "2" is folded, "1" is merged into "3"
+        CoverLog log = new CoverLog();
+        log.fold(2, 1, 3);
+        int size = log.size();
+        log.take(3);     //"3" is in the cover of the smaller graph, so "1" is too
+        assertArrayEquals(new int[]{1, 3}, sorted(log.cover()));
+
+        log.truncate(size);
+        log.take(4);     //"3" isn't, so "2" is
+        assertArrayEquals(new int[]{2, 4}, sorted(log.cover()));
+    }
+
+    @Test
+    void nestedFolds() {
+        //the path 1 - 2 - 3 - 4 - 5 - 6 - 7: "2" is folded into "3", then "4" with "3" merged into "5"
+        CoverLog log = new CoverLog();
+        log.fold(2, 1, 3);
+        log.fold(4, 3, 5);
+        log.take(5);
+        log.take(6);
+        int[] cover = sorted(log.cover());
+        assertArrayEquals(new int[]{1, 3, 5, 6}, cover);
+    }
+
+    @Test
+    void truncate() {
+        CoverLog log = new CoverLog();
+        for (int v = 0; v < 100; v++) {
+            log.take(v);
+        }
+        log.take(5);
+        assertEquals(100, log.cover().length);
+        log.truncate(0);
+        assertEquals(0, log.cover().length);
+    }
+}
@@ -0,0 +1,73 @@
+package core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsrAdjacencyTest {
+
+    private Graph g;
+
+    @BeforeEach
+    void BuildUp() {
+        CsrAdjacency csr = new CsrAdjacency();
+        //contains a duplicate edge in the other direction and a self-loop
+        csr.load(new int[]{1, 1, 3, 2, 4}, new int[]{2, 3, 4, 1, 4}, 5);
+        g = new Graph(csr);
+    }
+
+    @Test
+    void load() {
+        assertEquals(4, g.size());
+        assertEquals(3, g.getEdgeCount());
+        assertEquals(new HashSet<>(Arrays.asList(2, 3)), g.getNeighbours(1));
+        assertTrue(g.adjacent(3, 1));
+        assertFalse(g.adjacent(1, 4));
+    }
+
+    @Test
+    void deleteVertex() {
+        g.deleteVertex(1);
+        assertFalse(g.contains(1));
+        assertEquals(0, g.degree(2));
+        assertEquals(1, g.degree(3));
+        assertEquals(1, g.getEdgeCount());
+    }
+
+    @Test
+    void addEdge() {
+        g.addEdge(1, 4);    //not part of the loaded edges
+        g.addEdge(5, 2);    //new vertex
+        assertTrue(g.adjacent(4, 1));
+        assertEquals(3, g.degree(1));
+        assertEquals(2, g.degree(2));
+        assertEquals(5, g.getEdgeCount());
+    }
+
+    @Test
+    void restore() {
+        int safePoint = g.getSafePoint();
+        g.addEdge(1, 4);
+        g.deleteVertex(3);
+        g.deleteVertex(1);
+        assertEquals(0, g.getEdgeCount());
+
+        g.restore(safePoint);
+        assertEquals(4, g.size());
+        assertEquals(3, g.getEdgeCount());
+        assertTrue(g.adjacent(1, 3));
+        assertFalse(g.adjacent(1, 4));
+    }
+
+    @Test
+    void getDisjointGraphs() {
+        g.addEdge(6, 7);
+        assertEquals(2, g.getDisjointGraphs().size());
+        assertEquals(2, g.getConnectedGraph(7).size());
+        assertEquals(3, g.getConnectedGraph(1).getEdgeCount());
+    }
+}
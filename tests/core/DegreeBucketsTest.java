@@ -0,0 +1,79 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DegreeBucketsTest {
+
+    private static void assertConsistent(Graph g) {
+        int max = 0;
+        int edges = 0;
+        for (int v : g.getVertices()) {
+            max = Math.max(max, g.degree(v));
+            edges += g.degree(v);
+        }
+        assertEquals(max, g.getMaxDegree());
+        assertEquals(edges / 2, g.getEdgeCount());
+        assertEquals(edges != 0, g.hasEdges());
+        if (!g.isEmpty()) {
+            assertEquals(max, g.degree(g.getMaxDegreeVertex()));
+        }
+        for (int d = 0; d <= max; d++) {
+            int[] vertices = g.getVerticesOfDegree(d);
+            assertEquals(vertices.length, g.countVerticesOfDegree(d));
+            for (int v : vertices) {
+                assertEquals(d, g.degree(v));
+            }
+        }
+    }
+
+    @Test
+    void star() {
+        Graph g = new Graph();
+        for (int i = 1; i <= 5; i++) {
+            g.addEdge(0, i);
+        }
+        assertEquals(5, g.getMaxDegree());
+        assertEquals(0, (int) g.getMaxDegreeVertex());
+        assertEquals(5, g.countVerticesOfDegree(1));
+
+        g.deleteVertex(0);
+        assertEquals(0, g.getMaxDegree());
+        assertEquals(5, g.countVerticesOfDegree(0));
+        assertFalse(g.hasEdges());
+    }
+
+    @Test
+    void restore() {
+        Random r = new Random(1);
+        Graph g = new Graph();
+        for (int i = 0; i < 200; i++) {
+            g.addEdge(r.nextInt(60), r.nextInt(60));
+        }
+        assertConsistent(g);
+        int safePoint = g.getSafePoint();
+        int edges = g.getEdgeCount();
+        for (int i = 0; i < 30; i++) {
+            g.deleteVertex(r.nextInt(60));
+            g.deleteEdge(r.nextInt(60), r.nextInt(60));
+            g.addEdge(r.nextInt(60), r.nextInt(70));
+            assertConsistent(g);
+        }
+        g.restore(safePoint);
+        assertConsistent(g);
+        assertEquals(edges, g.getEdgeCount());
+    }
+
+    @Test
+    void loaded() {
+        CsrAdjacency edges = new CsrAdjacency();
+        edges.load(new int[]{1, 1, 2}, new int[]{2, 3, 3}, 3);
+        Graph g = new Graph(edges);
+        assertConsistent(g);
+        assertEquals(3, g.getEdgeCount());
+        assertConsistent(g.copy());
+    }
+}
@@ -0,0 +1,61 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirtyVerticesTest {
+
+    private static Set<Integer> takeDirty(Graph g) {
+        Set<Integer> result = new HashSet<>();
+        while (g.hasDirtyVertices()) {
+            assertTrue(result.add(g.nextDirtyVertex()));     //every vertex only once
+        }
+        return result;
+    }
+
+    @Test
+    void deleteVertex() {
+        Graph g = new Graph();
+        g.addEdge(1, 2);
+        g.addEdge(1, 3);
+        g.addEdge(3, 4);
+        assertEquals(Set.of(1, 2, 3, 4), takeDirty(g));
+
+        g.deleteVertex(1);
+        assertEquals(Set.of(2, 3), takeDirty(g));
+    }
+
+    @Test
+    void edges() {
+        Graph g = new Graph();
+        g.addEdge(1, 2);
+        g.addEdge(1, 3);
+        g.addEdge(2, 4);
+        takeDirty(g);
+
+        //3 is the only common neighbour
+        g.addEdge(2, 3);
+        assertEquals(Set.of(1, 2, 3), takeDirty(g));
+        g.deleteEdge(1, 2);
+        assertEquals(Set.of(1, 2, 3), takeDirty(g));
+    }
+
+    @Test
+    void restore() {
+        Graph g = new Graph();
+        g.addEdge(1, 2);
+        g.addEdge(2, 3);
+        takeDirty(g);
+        int safePoint = g.getSafePoint();
+        g.deleteVertex(2);
+        g.restore(safePoint);
+        assertFalse(g.hasDirtyVertices());
+
+        g.markAllDirty();
+        assertEquals(Set.of(1, 2, 3), takeDirty(g));
+    }
+}
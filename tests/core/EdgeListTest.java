@@ -0,0 +1,84 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EdgeListTest {
+
+    private static EdgeList read(String content) throws IOException {
+        File f = File.createTempFile("edges", ".txt");
+        f.deleteOnExit();
+        try (FileWriter w = new FileWriter(f)) {
+            w.write(content);
+        }
+        return EdgeList.read(f);
+    }
+
+    @Test
+    void matrixMarket() throws IOException {
+        //the size line "4 4 3" must not be read as an edge
+        EdgeList e = read("%%MatrixMarket matrix coordinate pattern symmetric\n% comment\n4 4 3\n2 1\n3 1 \n4 3\n");
+        assertEquals(3, e.count);
+        assertEquals(1, e.from[0]);
+        assertEquals(2, e.to[0]);
+    }
+
+    @Test
+    void konect() throws IOException {
+        EdgeList e = read("% sym unweighted\n% 3 4 4\n1\t2\n1\t3 1 1200\n\n3\t4\r\n");
+        assertEquals(3, e.count);
+        assertEquals(3, e.from[2]);
+        assertEquals(4, e.to[2]);
+    }
+
+    @Test
+    void duplicatesAndSelfLoops() throws IOException {
+        EdgeList e = read("1 2\n2 1\n3 3\n1 2\n5 4");
+        assertEquals(2, e.count);
+        assertEquals(4, e.from[1]);
+        assertEquals(5, e.to[1]);
+    }
+
+    @Test
+    void binary() throws IOException {
+        File f = File.createTempFile("edges", ".bin");
+        f.deleteOnExit();
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(f))) {
+            int[] ids = {2, 1, 1, 3, 3, 3, 1, 2, 4, 3};
+            for (int id : ids) {
+                out.writeInt(id);
+            }
+        }
+        EdgeList e = EdgeList.read(f);
+        assertEquals(3, e.count);
+        assertEquals(1, e.from[0]);
+        assertEquals(2, e.to[0]);
+        assertEquals(3, e.from[2]);
+        assertEquals(4, e.to[2]);
+    }
+
+    @Test
+    void graph() throws IOException {
+        File f = File.createTempFile("edges", ".edges");
+        f.deleteOnExit();
+        try (FileWriter w = new FileWriter(f)) {
+            w.write("1 2\n1 3\n3 4\n");
+        }
+        Graph g = new Graph(f);
+        assertEquals(4, g.size());
+        assertEquals(3, g.getEdgeCount());
+        assertTrue(g.adjacent(4, 3));
+    }
+
+    @Test
+    void notAnEdge() {
+        assertThrows(NumberFormatException.class, () -> read("1 2\n1 x\n"));
+    }
+}
@@ -0,0 +1,73 @@
+package core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphSnapshotTest {
+
+    private Graph g = new Graph();
+    private File file;
+
+    @BeforeEach
+    void BuildUp() throws IOException {
+        g.addEdge(1, 2);
+        g.addEdge(1, 3);
+        g.addEdge(3, 4);
+        g.addEdge(40, 10);
+        g.addVertex(7);
+        file = File.createTempFile("graph", ".snapshot");
+        file.deleteOnExit();
+    }
+
+    @Test
+    void writeAndRead() throws IOException {
+        GraphSnapshot.write(g, file);
+        Graph read = GraphSnapshot.read(file).graph;
+        assertEquals(g.getVertices(), read.getVertices());
+        assertEquals(4, read.getEdgeCount());
+        assertEquals(g.getNeighbours(1), read.getNeighbours(1));
+        assertTrue(read.adjacent(10, 40));
+        assertTrue(read.contains(7));
+
+        read = GraphSnapshot.read(file, new HashAdjacency()).graph;
+        assertEquals(g.getVertices(), read.getVertices());
+        assertEquals(4, read.getEdgeCount());
+    }
+
+    @Test
+    void kernel() throws IOException {
+        GraphSnapshot.write(new Instance(g, 3), file);
+        Instance inst = GraphSnapshot.read(file);
+        assertEquals(3, inst.k);
+        assertEquals(7, inst.graph.size());
+    }
+
+    @Test
+    void corrupt() throws IOException {
+        GraphSnapshot.write(g, file);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(raf.length() - 1);
+            raf.write(99);
+        }
+        assertThrows(IOException.class, () -> GraphSnapshot.read(file));
+    }
+
+    @Test
+    void corruptHeader() throws IOException {
+        //"n", "m2" and "k" are behind the magic number and the version
+        for (int field = 2; field < 5; field++) {
+            GraphSnapshot.write(new Instance(g, 3), file);
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.seek(field * Integer.BYTES + 3);
+                raf.write(raf.readByte() ^ 1);
+            }
+            assertThrows(IOException.class, () -> GraphSnapshot.read(file));
+        }
+    }
+}
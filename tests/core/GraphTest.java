@@ -124,4 +124,43 @@ class GraphTest {
 
         assertEquals(2, g.getDisjointGraphs().size());
     }
+
+    @Test
+    void getHash() {
+        long hash = g.getHash();
+        assertEquals(hash, g.copy().getHash());
+        assertEquals(0, new Graph().getHash());
+
+        int safePoint = g.getSafePoint();
+        g.deleteVertex(1);
+        assertNotEquals(hash, g.getHash());
+        g.addEdge(2, 4);
+        g.deleteEdge(2, 3);
+        long changed = g.getHash();
+        assertEquals(changed, g.copy().getHash());
+        g.restore(safePoint);
+        assertEquals(hash, g.getHash());
+
+        //new vertices, which are removed with their edge
+        g.addEdge(10, 11);
+        g.addEdge(3, 12);
+        g.restore(safePoint);
+        assertEquals(hash, g.getHash());
+        assertEquals(hash, g.copy().getHash());
+        Graph empty = new Graph();
+        safePoint = empty.getSafePoint();
+        empty.addEdge(1, 2);
+        empty.restore(safePoint);
+        assertEquals(0, empty.getHash());
+
+        //the same edges in another order
+        Graph other = new Graph();
+        other.addEdge(3, 4);
+        other.addEdge(3, 1);
+        other.addEdge(2, 1);
+        assertEquals(hash, other.getHash());
+        other.addEdge(1, 4);
+        other.deleteEdge(4, 1);
+        assertEquals(hash, other.getHash());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NeighbourIterationTest {
+
+    private static Graph build(Adjacency edges) {
+        Graph g = new Graph(edges);
+        g.addEdge(1, 2);
+        g.addEdge(1, 3);
+        g.addEdge(1, 4);
+        g.addEdge(3, 4);
+        g.addVertex(9);
+        return g;
+    }
+
+    private static void check(Graph g) {
+        Set<Integer> expected = g.getNeighbours(1);
+
+        Set<Integer> seen = new HashSet<>();
+        g.forEachNeighbour(1, seen::add);
+        assertEquals(expected, seen);
+
+        seen.clear();
+        PrimitiveIterator.OfInt it = g.neighbourIterator(1);
+        while (it.hasNext()) {
+            seen.add(it.nextInt());
+        }
+        assertEquals(expected, seen);
+
+        int[] snapshot = g.getNeighbourArray(1);
+        assertEquals(3, snapshot.length);
+        for (int nb : snapshot) {
+            g.deleteVertex(nb);     //the snapshot doesn't change
+        }
+        assertEquals(0, g.degree(1));
+        assertEquals(0, g.getNeighbourArray(9).length);
+        assertFalse(g.neighbourIterator(42).hasNext());
+
+        seen.clear();
+        g.forEachVertex(seen::add);
+        assertEquals(g.getVertices(), seen);
+    }
+
+    @Test
+    void hash() {
+        check(build(new HashAdjacency()));
+    }
+
+    @Test
+    void csr() {
+        CsrAdjacency edges = new CsrAdjacency();
+        edges.load(new int[]{1, 1}, new int[]{2, 3}, 2);
+        //2 and 3 are in the compressed rows, 4 is an extra edge
+        check(build(edges));
+    }
+}
@@ -0,0 +1,53 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitSetSearchTest {
+
+    @Test
+    void cycles() {
+        Graph g = new Graph();
+        for (int i = 0; i < 7; i++) {
+            g.addEdge(i, (i + 1) % 7);
+        }
+        for (int i = 0; i < 6; i++) {
+            g.addEdge(10 + i, 10 + (i + 1) % 6);
+        }
+        assertEquals(7, BitSetSearch.solve(g, 100, null));
+        assertEquals(13, g.size());     //not changed
+    }
+
+    @Test
+    void limit() {
+        Graph g = TestGraphs.random(1, 40, 100);
+        int k = BitSetSearch.solve(g, 100, null);
+        assertEquals(k, BitSetSearch.solve(g, k, null));
+        assertEquals(k, BitSetSearch.solve(g, k - 1, null));    //limit + 1
+        assertEquals(k - 2, BitSetSearch.solve(g, k - 3, null));
+    }
+
+    @Test
+    void sameResults() {
+        SolverOptions graphSearch = new SolverOptions();
+        graphSearch.bitSetSize = 0;
+        for (long seed = 0; seed < 20; seed++) {
+            Graph g = TestGraphs.random(seed, 60, 150);
+            int expected = SearchTree.minVertexCover(g.copy(), graphSearch);
+            assertEquals(expected, BitSetSearch.solve(g, Integer.MAX_VALUE, null));
+            assertEquals(expected, SearchTree.minVertexCover(g));
+        }
+    }
+
+    @Test
+    void moreThanOneWord() {
+        SolverOptions graphSearch = new SolverOptions();
+        graphSearch.bitSetSize = 0;
+        for (long seed = 0; seed < 5; seed++) {
+            Graph g = TestGraphs.random(seed, 150, 350);
+            assertEquals(SearchTree.minVertexCover(g.copy(), graphSearch), SearchTree.minVertexCover(g));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The branch-and-bound search has to find the same K as the iterative one.
+ */
+class BranchAndBoundTest {
+
+    private static SolverOptions branchAndBound() {
+        SolverOptions options = new SolverOptions();
+        options.branchAndBound = true;
+        return options;
+    }
+
+    @Test
+    void dataFiles() throws IOException {
+        for (File file : new File("data").listFiles()) {
+            int expected = SearchTree.minVertexCover(new Graph(file));
+            assertEquals(expected, SearchTree.minVertexCover(new Graph(file), branchAndBound()), file.getName());
+        }
+    }
+
+    @Test
+    void randomGraphs() {
+        for (long seed = 0; seed < 20; seed++) {
+            Random r = new Random(seed);
+            Graph a = new Graph();
+            Graph b = new Graph();
+            for (int i = 0; i < 100; i++) {
+                int v = r.nextInt(40);
+                int w = r.nextInt(40);
+                a.addEdge(v, w);
+                b.addEdge(v, w);
+            }
+            assertEquals(SearchTree.minVertexCover(a), SearchTree.minVertexCover(b, branchAndBound()));
+        }
+    }
+}
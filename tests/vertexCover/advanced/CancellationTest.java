@@ -0,0 +1,93 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CancellationTest {
+
+    @Test
+    void notCancelled() {
+        for (long seed = 0; seed < 5; seed++) {
+            Graph g = TestGraphs.random(seed, 120, 300);
+            int edges = g.getEdgeCount();
+            Solution solution = SearchTree.solve(g, new SolverOptions(), new CancellationToken());
+            assertTrue(solution.isOptimal());
+            assertEquals(edges, g.getEdgeCount());      //restored
+            assertEquals(SearchTree.minVertexCover(g.copy()), solution.upperBound);
+            assertEquals(solution.upperBound, solution.cover.length);
+            TestGraphs.assertCover(g, solution.cover);
+        }
+    }
+
+    @Test
+    void coverOfK() {
+        SolverOptions bitSet = new SolverOptions();
+        SolverOptions graphSearch = new SolverOptions();
+        graphSearch.bitSetSize = 0;
+        graphSearch.specialClasses = false;
+        graphSearch.minSplitSize = 0;
+        SolverOptions kernels = new SolverOptions();
+        kernels.lpKernel = true;
+        kernels.hyperCubes = true;
+        kernels.parallelism = 4;
+        for (SolverOptions options : new SolverOptions[]{bitSet, graphSearch, kernels}) {
+            //sparse, so the rules fold many vertices of degree two
+            for (long seed = 0; seed < 10; seed++) {
+                Graph g = TestGraphs.random(seed, 150, 220 + 10 * (int) seed);
+                int k = SearchTree.minVertexCover(g.copy());
+                Solution solution = SearchTree.solve(g, options, null);
+                assertTrue(solution.isOptimal());
+                assertEquals(k, solution.cover.length);
+                TestGraphs.assertCover(g, solution.cover);
+            }
+        }
+    }
+
+    @Test
+    void countOnly() {
+        for (long seed = 0; seed < 5; seed++) {
+            Graph g = TestGraphs.random(seed, 120, 300);
+            int k = SearchTree.minVertexCover(g.copy());
+            assertEquals(k, SearchTree.minVertexCover(g.copy(), new SolverOptions(), new CancellationToken()));
+            CancellationToken token = new CancellationToken();
+            token.cancel();
+            assertEquals(-1, SearchTree.minVertexCover(g.copy(), new SolverOptions(), token));
+        }
+    }
+
+    @Test
+    void alreadyCancelled() {
+        SolverOptions bitSet = new SolverOptions();
+        SolverOptions graphSearch = new SolverOptions();
+        graphSearch.bitSetSize = 0;
+        SolverOptions branchAndBound = new SolverOptions();
+        branchAndBound.bitSetSize = 0;
+        branchAndBound.branchAndBound = true;
+        for (SolverOptions options : new SolverOptions[]{bitSet, graphSearch, branchAndBound}) {
+            for (long seed = 0; seed < 5; seed++) {
+                Graph g = TestGraphs.random(seed, 120, 300);
+                int k = SearchTree.minVertexCover(g.copy());
+                CancellationToken token = new CancellationToken();
+                token.cancel();
+                Solution solution = SearchTree.solve(g, options, token);
+                assertTrue(solution.lowerBound <= k);
+                assertTrue(solution.upperBound >= k);
+                assertEquals(solution.upperBound, solution.cover.length);
+                TestGraphs.assertCover(g, solution.cover);
+            }
+        }
+    }
+
+    @Test
+    void deadline() {
+        Graph g = TestGraphs.random(1, 600, 2400);     //far too big to finish
+        long start = System.nanoTime();
+        Solution solution = SearchTree.solve(g, new SolverOptions(), CancellationToken.withTimeout(200));
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+        assertFalse(solution.isOptimal());
+        assertTrue(solution.lowerBound < solution.upperBound);
+        TestGraphs.assertCover(g, solution.cover);
+    }
+}
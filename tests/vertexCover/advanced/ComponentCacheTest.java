@@ -0,0 +1,175 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentCacheTest {
+
+    /**
+     * @return "g" with every ID "v" replaced by "permutation[v] + offset"
+     */
+    private static Graph relabel(Graph g, int[] permutation, int offset) {
+        Graph result = new Graph();
+        g.forEachVertex(v -> g.forEachNeighbour(v, w -> result.addEdge(permutation[v] + offset,
+                permutation[w] + offset)));
+        return result;
+    }
+
+    private static int[] permutation(long seed, int n) {
+        Random r = new Random(seed);
+        int[] p = new int[n];
+        for (int i = 0; i < n; i++) {
+            p[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = r.nextInt(i + 1);
+            int t = p[i];
+            p[i] = p[j];
+            p[j] = t;
+        }
+        return p;
+    }
+
+    private static Graph cycle(int length) {
+        Graph g = new Graph();
+        for (int i = 0; i < length; i++) {
+            g.addEdge(i, (i + 1) % length);
+        }
+        return g;
+    }
+
+    /**
+     * 3-regular without triangles, so the reduction rules leave it alone
+     */
+    private static Graph petersen() {
+        Graph g = new Graph();
+        for (int i = 0; i < 5; i++) {
+            g.addEdge(i, (i + 1) % 5);
+            g.addEdge(i, i + 5);
+            g.addEdge(i + 5, (i + 2) % 5 + 5);
+        }
+        return g;
+    }
+
+    @Test
+    void isomorphic() {
+        for (long seed = 0; seed < 20; seed++) {
+            Graph g = TestGraphs.random(seed, 20, 40);
+            CanonicalForm form = CanonicalForm.of(g);
+            assertNotNull(form);
+            for (long p = 0; p < 5; p++) {
+                assertEquals(form, CanonicalForm.of(relabel(g, permutation(p, 20), 1000)));
+            }
+        }
+        //very symmetric, but still few enough orders
+        assertEquals(CanonicalForm.of(cycle(12)), CanonicalForm.of(relabel(cycle(12), permutation(1, 12), 7)));
+        assertEquals(CanonicalForm.of(petersen()), CanonicalForm.of(relabel(petersen(), permutation(2, 10), 3)));
+    }
+
+    @Test
+    void notIsomorphic() {
+        //the same degrees, a cycle of six and two triangles
+        Graph triangles = new Graph();
+        triangles.addEdge(0, 1);
+        triangles.addEdge(1, 2);
+        triangles.addEdge(2, 0);
+        triangles.addEdge(3, 4);
+        triangles.addEdge(4, 5);
+        triangles.addEdge(5, 3);
+        assertNotEquals(CanonicalForm.of(cycle(6)), CanonicalForm.of(triangles));
+
+        Graph g = TestGraphs.random(1, 20, 40);
+        Graph other = g.copy();
+        other.addEdge(100, 101);
+        assertNotEquals(CanonicalForm.of(g), CanonicalForm.of(other));
+        assertNull(CanonicalForm.of(TestGraphs.random(1, 100, 300)));     //too big
+    }
+
+    @Test
+    void sameK() {
+        for (long seed = 0; seed < 5; seed++) {
+            Graph g = new Graph();
+            //many copies of few different small graphs
+            for (int i = 0; i < 30; i++) {
+                Graph part = relabel(i % 2 == 0 ? petersen() : TestGraphs.random(seed, 30, 80), permutation(i, 30),
+                        100 * i);
+                part.forEachVertex(v -> part.forEachNeighbour(v, w -> g.addEdge(v, w)));
+            }
+            SolverOptions options = new SolverOptions();
+            options.componentCache = new ComponentCache();
+            assertEquals(SearchTree.minVertexCover(g.copy()), SearchTree.minVertexCover(g, options));
+            assertTrue(options.componentCache.getHits() >= 14);
+            assertEquals(options.componentCache.getMisses(), options.componentCache.size());
+        }
+    }
+
+    @Test
+    void splits() {
+        //once "0" is taken, the graph falls apart into the copies, which are looked up too
+        Graph g = new Graph();
+        for (int i = 0; i < 6; i++) {
+            Graph part = relabel(petersen(), permutation(i, 10), 100 * i + 1);
+            part.forEachVertex(v -> part.forEachNeighbour(v, w -> g.addEdge(v, w)));
+            g.addEdge(0, 100 * i + 1);
+            g.addEdge(0, 100 * i + 7);
+        }
+        SolverOptions options = new SolverOptions();
+        options.bitSetSize = 0;
+        options.specialClasses = false;
+        options.minSplitSize = 0;
+        options.componentCache = new ComponentCache(1000, 24);
+        assertEquals(36, SearchTree.minVertexCover(g.copy(), options));
+        assertTrue(options.componentCache.getHits() > 0);
+
+        options.branchAndBound = true;
+        options.componentCache.clear();
+        assertEquals(36, SearchTree.minVertexCover(g, options));
+        assertTrue(options.componentCache.getHits() > 0);
+    }
+
+    @Test
+    void eviction() {
+        ComponentCache cache = new ComponentCache(2, 8);
+        CanonicalForm[] keys = new CanonicalForm[3];
+        for (int i = 0; i < 3; i++) {
+            keys[i] = cache.key(cycle(i + 3));
+            cache.put(keys[i], i);
+        }
+        assertEquals(2, cache.size());
+        assertNull(cache.get(keys[0]));     //the oldest one is gone
+        assertEquals(1, (int) cache.get(keys[1]));
+        cache.put(keys[0], 0);              //drops keys[2], keys[1] was used more recently
+        assertNull(cache.get(keys[2]));
+        assertEquals(1, (int) cache.get(keys[1]));
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertNull(cache.key(cycle(9)));    //bigger than 8
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void parallel() {
+        Graph g = new Graph();
+        for (int i = 0; i < 40; i++) {
+            Graph part = relabel(i % 2 == 0 ? petersen() : TestGraphs.random(3, 30, 80), permutation(i, 30), 100 * i);
+            part.forEachVertex(v -> part.forEachNeighbour(v, w -> g.addEdge(v, w)));
+        }
+        SolverOptions options = new SolverOptions();
+        options.parallelism = 4;
+        options.smallComponentSize = 0;
+        options.componentCache = new ComponentCache(1000, 32);
+        int k = SearchTree.minVertexCover(g.copy());
+        assertEquals(k, SearchTree.minVertexCover(g.copy(), options));
+        //how many copies miss the first time depends on the threads, the second time every copy of Petersen is stored
+        long hits = options.componentCache.getHits();
+        assertEquals(k, SearchTree.minVertexCover(g, options));
+        assertEquals(20, options.componentCache.getHits() - hits);
+    }
+}
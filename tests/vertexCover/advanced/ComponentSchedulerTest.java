@@ -0,0 +1,58 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentSchedulerTest {
+
+    /**
+     * A graph with one big component (a wheel, which survives the reduction rules) and many small ones.
+     */
+    private static Graph manyComponents() {
+        Graph g = new Graph();
+        for (int i = 1; i <= 40; i++) {
+            g.addEdge(0, i);
+            g.addEdge(i, i % 40 + 1);
+        }
+        for (int i = 100; i < 200; i += 4) {    //squares
+            g.addEdge(i, i + 1);
+            g.addEdge(i + 1, i + 2);
+            g.addEdge(i + 2, i + 3);
+            g.addEdge(i + 3, i);
+        }
+        return g;
+    }
+
+    @Test
+    void sameResults() {
+        int expected = SearchTree.minVertexCover(manyComponents());
+        SolverOptions options = new SolverOptions();
+        options.parallelism = 3;
+        assertEquals(expected, SearchTree.minVertexCover(manyComponents(), options));
+    }
+
+    @Test
+    void componentTimes() {
+        Graph a = new Graph();
+        a.addEdge(1, 2);
+        Graph b = manyComponents();
+
+        SolverOptions options = new SolverOptions();
+        options.smallComponentSize = 3;
+        options.componentTimes = new ComponentTimes();
+        int k = ComponentScheduler.solve(List.of(a, b), options, null);
+
+        List<ComponentTimes.Entry> entries = options.componentTimes.getEntries();
+        assertEquals(2, entries.size());
+        int sum = 0;
+        for (ComponentTimes.Entry e : entries) {
+            sum += e.k;
+            assertTrue(e.nanos > 0);
+        }
+        assertEquals(k, sum);
+    }
+}
@@ -0,0 +1,83 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentSplittingTest {
+
+    /**
+     * Dense parts that are only held together by vertex 0, so the graph falls apart once 0 is taken
+     */
+    private static Graph hub(long seed) {
+        Random r = new Random(seed);
+        Graph g = new Graph();
+        for (int part = 0; part < 4; part++) {
+            for (int i = 0; i < 60; i++) {
+                g.addEdge(part * 20 + 1 + r.nextInt(20), part * 20 + 1 + r.nextInt(20));
+            }
+            for (int i = 0; i < 3; i++) {
+                g.addEdge(0, part * 20 + 1 + r.nextInt(20));
+            }
+        }
+        return g;
+    }
+
+    private static SolverOptions options(boolean split) {
+        SolverOptions options = new SolverOptions();
+        options.splitComponents = split;
+        options.minSplitSize = 0;
+        return options;
+    }
+
+    @Test
+    void split() {
+        Graph g = new Graph();
+        g.addEdge(1, 2);
+        g.addEdge(3, 4);
+        g.addEdge(4, 5);
+        assertNull(SearchTree.split(new Graph()));
+        Graph[] parts = SearchTree.split(g);
+        assertEquals(2, parts.length);
+        assertEquals(2, parts[0].size());       //the smaller one first
+        assertEquals(3, parts[1].size());
+        assertEquals(5, g.size());      //not changed
+        g.addEdge(2, 3);
+        assertNull(SearchTree.split(g));
+    }
+
+    @Test
+    void sameResults() {
+        for (long seed = 0; seed < 10; seed++) {
+            int expected = SearchTree.minVertexCover(hub(seed), options(false));
+            assertEquals(expected, SearchTree.minVertexCover(hub(seed), options(true)));
+
+            SolverOptions bnb = options(true);
+            bnb.branchAndBound = true;
+            assertEquals(expected, SearchTree.minVertexCover(hub(seed), bnb));
+
+            SolverOptions parallel = options(true);
+            parallel.parallelism = 4;
+            parallel.minForkSize = 8;
+            assertEquals(expected, SearchTree.minVertexCover(hub(seed), parallel));
+        }
+    }
+
+    @Test
+    void fewerNodes() {
+        SolverOptions without = options(false);
+        without.branchAndBound = true;
+        without.stats = new SearchStats();
+        SolverOptions with = options(true);
+        with.branchAndBound = true;
+        with.stats = new SearchStats();
+        for (long seed = 0; seed < 10; seed++) {
+            SearchTree.minVertexCover(hub(seed), without);
+            SearchTree.minVertexCover(hub(seed), with);
+        }
+        assertTrue(with.stats.getNodes() <= without.stats.getNodes());
+    }
+}
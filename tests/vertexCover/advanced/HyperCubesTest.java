@@ -128,4 +128,74 @@ class HyperCubesTest {
 
 
     }
+
+    /**
+     * The vertices 0 to 2^d - 1, two of them are adjacent if they differ in one bit
+     */
+    private static Graph hyperCube(int d, int offset) {
+        Graph cube = new Graph();
+        for (int v = 0; v < 1 << d; v++) {
+            for (int bit = 0; bit < d; bit++) {
+                cube.addEdge(v + offset, (v ^ 1 << bit) + offset);
+            }
+        }
+        return cube;
+    }
+
+    @Test
+    void allDimensionsTest() {
+        Graph cube = hyperCube(5, 0);
+        //the number of sub-cubes of dimension "i" is "5 choose i" times 2^(5 - i)
+        int[] expected = {0, 0, 80, 40, 10, 1};
+        Set<Set<Integer>> cubes = HyperCubes.getRects(cube);
+        for (int d = 2; d <= 5; d++) {
+            assertEquals(expected[d], cubes.size());
+            for (Set<Integer> c : cubes) {
+                assertEquals(1 << d, c.size());
+            }
+            cubes = HyperCubes.getHigherDimHyperCubes(cube, cubes);
+        }
+        assertEquals(0, cubes.size());
+    }
+
+    @Test
+    void plantedCubesTest() {
+        //a sparse random graph, the planted cubes are tied into it with one edge per vertex
+        Random r = new Random(1);
+        Graph sparse = new Graph();
+        for (int i = 0; i < 3000; i++) {
+            sparse.addEdge(r.nextInt(2000), r.nextInt(2000));
+        }
+        Set<Set<Integer>> planted = new HashSet<>();
+        for (int c = 0; c < 5; c++) {
+            Graph cube = hyperCube(4, 10_000 + 16 * c);
+            cube.forEachVertex(v -> cube.forEachNeighbour(v, w -> sparse.addEdge(v, w)));
+            cube.forEachVertex(v -> sparse.addEdge(v, r.nextInt(2000)));
+            planted.add(cube.getVertices());
+        }
+        Set<Set<Integer>> cubes = HyperCubes.getRects(sparse);
+        for (int d = 2; d < 4; d++) {
+            cubes = HyperCubes.getHigherDimHyperCubes(sparse, cubes);
+        }
+        assertEquals(planted, cubes);
+    }
+
+    @Test
+    void applyTest() {
+        //one half of the cube is only connected to the other half, which is taken
+        Graph cube = hyperCube(3, 0);
+        cube.addEdge(0, 100);
+        cube.addEdge(3, 101);
+        cube.addEdge(100, 101);
+        int k = SearchTree.minVertexCover(cube.copy());
+        assertEquals(4, HyperCubes.apply(cube));
+        assertEquals(1, cube.getEdgeCount());      //only (100, 101) is left
+        assertEquals(k, 4 + SearchTree.minVertexCover(cube));
+
+        //both halves have other neighbours
+        cube = hyperCube(3, 0);
+        cube.addEdge(0, 100);
+        cube.addEdge(1, 101);
+        assertEquals(0, HyperCubes.apply(cube));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LPKernelTest {
+
+    @Test
+    void star() {
+        //the center gets the value 1, the leaves 0
+        Graph g = new Graph();
+        for (int i = 1; i <= 5; i++) {
+            g.addEdge(0, i);
+        }
+        int safePoint = g.getSafePoint();
+        assertEquals(1, LPKernel.apply(g));
+        assertTrue(g.isEmpty());
+
+        g.restore(safePoint);
+        assertEquals(5, g.getEdgeCount());
+    }
+
+    @Test
+    void cycle() {
+        //every vertex of an odd cycle gets the value 1/2, so nothing can be removed
+        Graph g = new Graph();
+        for (int i = 0; i < 5; i++) {
+            g.addEdge(i, (i + 1) % 5);
+        }
+        assertEquals(0, LPKernel.apply(g));
+        assertEquals(5, g.size());
+    }
+
+    @Test
+    void sameResults() {
+        SolverOptions options = new SolverOptions();
+        options.lpKernel = true;
+        options.lpKernelInSearch = true;
+        for (long seed = 0; seed < 20; seed++) {
+            Random r = new Random(seed);
+            Graph a = new Graph();
+            Graph b = new Graph();
+            for (int i = 0; i < 90; i++) {
+                int v = r.nextInt(40);
+                int w = r.nextInt(40);
+                a.addEdge(v, w);
+                b.addEdge(v, w);
+            }
+            assertEquals(SearchTree.minVertexCover(a), SearchTree.minVertexCover(b, options));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalSearchTest {
+
+    @Test
+    void validCover() {
+        for (long seed = 0; seed < 10; seed++) {
+            Graph g = TestGraphs.random(seed, 200, 500);
+            int edges = g.getEdgeCount();
+            int[] cover = GraphUtil.getUpperBoundCover(g, 20);
+            TestGraphs.assertCover(g, cover);
+            assertEquals(edges, g.getEdgeCount());      //not changed
+            assertTrue(cover.length <= GraphUtil.getUpperBound(g));
+            assertTrue(cover.length >= SearchTree.minVertexCover(g.copy()));
+        }
+    }
+
+    @Test
+    void greedyOnly() {
+        Graph g = TestGraphs.random(3, 100, 300);
+        int[] cover = GraphUtil.getUpperBoundCover(g, 0);
+        TestGraphs.assertCover(g, cover);
+        assertEquals(GraphUtil.getUpperBound(g), cover.length);
+    }
+
+    @Test
+    void findsOptimum() {
+        //cliques of four vertices around a centre, every clique needs three vertices and the centre one more
+        Graph g = new Graph();
+        for (int c = 0; c < 5; c++) {
+            for (int a = 0; a < 4; a++) {
+                for (int b = a + 1; b < 4; b++) {
+                    g.addEdge(10 * c + a + 1, 10 * c + b + 1);
+                }
+                g.addEdge(0, 10 * c + a + 1);
+            }
+        }
+        int[] cover = GraphUtil.getUpperBoundCover(g, 100);
+        TestGraphs.assertCover(g, cover);
+        assertEquals(SearchTree.minVertexCover(g.copy()), cover.length);
+    }
+
+    @Test
+    void sameResults() {
+        SolverOptions greedy = new SolverOptions();
+        greedy.upperBoundMillis = 0;
+        greedy.bitSetSize = 0;
+        SolverOptions local = new SolverOptions();
+        local.bitSetSize = 0;
+        for (long seed = 0; seed < 5; seed++) {
+            assertEquals(SearchTree.minVertexCover(TestGraphs.random(seed, 80, 200), greedy),
+                    SearchTree.minVertexCover(TestGraphs.random(seed, 80, 200), local));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LowerBoundTest {
+
+    private static final LowerBound[] BOUNDS = {LowerBound.GREEDY_MATCHING, LowerBound.MATCHING,
+            LowerBound.CLIQUE_COVER, LowerBound.BEST};
+
+    @Test
+    void clique() {
+        Graph g = new Graph();
+        for (int a = 0; a < 4; a++) {
+            for (int b = a + 1; b < 4; b++) {
+                g.addEdge(a, b);
+            }
+        }
+        assertEquals(3, LowerBound.CLIQUE_COVER.compute(g));
+        assertEquals(2, LowerBound.MATCHING.compute(g));
+        assertEquals(3, LowerBound.BEST.compute(g));
+        assertEquals(6, g.getEdgeCount());     //not changed
+    }
+
+    @Test
+    void oddCycle() {
+        //the fractional matching gives every edge 1/2, so the bound is 5/2 rounded up
+        Graph g = new Graph();
+        for (int i = 0; i < 5; i++) {
+            g.addEdge(i, (i + 1) % 5);
+        }
+        assertEquals(3, LowerBound.MATCHING.compute(g));
+    }
+
+    @Test
+    void belowOptimum() {
+        for (long seed = 0; seed < 20; seed++) {
+            Random r = new Random(seed);
+            Graph g = new Graph();
+            for (int i = 0; i < 80; i++) {
+                g.addEdge(r.nextInt(35), r.nextInt(35));
+            }
+            int k = SearchTree.minVertexCover(g.copy());
+            for (LowerBound bound : BOUNDS) {
+                assertTrue(bound.compute(g) <= k);
+            }
+        }
+    }
+
+    @Test
+    void sameResults() {
+        for (LowerBound bound : BOUNDS) {
+            SolverOptions options = new SolverOptions();
+            options.lowerBound = bound;
+            for (long seed = 0; seed < 10; seed++) {
+                Random r = new Random(seed);
+                Graph a = new Graph();
+                Graph b = new Graph();
+                for (int i = 0; i < 90; i++) {
+                    int v = r.nextInt(40);
+                    int w = r.nextInt(40);
+                    a.addEdge(v, w);
+                    b.addEdge(v, w);
+                }
+                assertEquals(SearchTree.minVertexCover(a, new SolverOptions()), SearchTree.minVertexCover(b, options));
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The parallel search has to find the same K as the sequential one.
+ */
+class ParallelSearchTest {
+
+    @Test
+    void sameResults() throws IOException {
+        SolverOptions options = new SolverOptions();
+        options.parallelism = 4;
+        options.minForkSize = 8;    //so that also the small graphs are split
+
+        for (File file : new File("data").listFiles()) {
+            int expected = SearchTree.minVertexCover(new Graph(file));
+            assertEquals(expected, SearchTree.minVertexCover(new Graph(file), options), file.getName());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchStatsTest {
+
+    /**
+     * Only the iterative search on the graph, so every node belongs to a try
+     */
+    private static SolverOptions graphSearch() {
+        SolverOptions options = new SolverOptions();
+        options.bitSetSize = 0;
+        options.specialClasses = false;
+        options.splitComponents = false;
+        options.stats = new SearchStats();
+        return options;
+    }
+
+    @Test
+    void counters() {
+        SolverOptions options = graphSearch();
+        int k = SearchTree.minVertexCover(TestGraphs.random(3, 80, 200), options);
+        SearchStats stats = options.stats;
+
+        assertTrue(stats.getNodes() > 0);
+        long[] perK = stats.getNodesPerK();
+        assertTrue(perK.length <= k + 1);
+        long sum = 0;
+        for (long nodes : perK) {
+            sum += nodes;
+        }
+        assertEquals(stats.getNodes(), sum);
+        assertTrue(stats.getMaxDepth() > 0);
+        assertTrue(stats.getBoundPrunes() + stats.getReductionPrunes() > 0);
+        for (ReductionRule rule : ReductionRule.values()) {
+            assertTrue(stats.getNanos(rule) >= 0);
+        }
+        assertTrue(stats.getHits(ReductionRule.CLIQUE) > 0);
+
+        stats.reset();
+        assertEquals(0, stats.getNodes());
+        assertEquals(0, stats.getNodesPerK().length);
+        assertEquals(0, stats.getHits(ReductionRule.CLIQUE));
+    }
+
+    @Test
+    void parallel() {
+        Graph g = TestGraphs.random(3, 80, 200);
+        SolverOptions sequential = graphSearch();
+        SolverOptions parallel = graphSearch();
+        parallel.parallelism = 4;
+        parallel.minForkSize = 8;
+        assertEquals(SearchTree.minVertexCover(g.copy(), sequential), SearchTree.minVertexCover(g, parallel));
+        //the threads count into their own counters
+        assertTrue(parallel.stats.getNodes() > 0);
+        assertEquals(sequential.stats.getNodesPerK().length, parallel.stats.getNodesPerK().length);
+    }
+
+    @Test
+    void withoutStats() {
+        Graph g = TestGraphs.random(3, 80, 200);
+        SolverOptions options = graphSearch();
+        int k = SearchTree.minVertexCover(g.copy(), options);
+        options.stats = null;
+        assertEquals(k, SearchTree.minVertexCover(g, options));
+    }
+
+    @Test
+    void events() throws IOException {
+        Path file = Files.createTempFile("search", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("vertexCover.SearchTry");
+            recording.enable("vertexCover.SearchStats");
+            recording.start();
+            SearchTree.minVertexCover(TestGraphs.random(3, 80, 200), graphSearch());
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("vertexCover.SearchTry")
+                    && e.getInt("vertices") > 0 && e.getLong("nodes") > 0));
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("vertexCover.SearchStats")
+                    && e.getLong("nodes") > 0));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
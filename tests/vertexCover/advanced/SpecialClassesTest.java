@@ -0,0 +1,89 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpecialClassesTest {
+
+    private static int search(Graph g) {
+        SolverOptions options = new SolverOptions();
+        options.specialClasses = false;
+        options.bitSetSize = 0;
+        return SearchTree.findK(g.copy(), options, null);
+    }
+
+    @Test
+    void pathsAndCycles() {
+        Graph g = new Graph();
+        for (int i = 0; i < 6; i++) {
+            g.addEdge(i, i + 1);        //path of 7 vertices
+        }
+        for (int i = 0; i < 5; i++) {
+            g.addEdge(10 + i, 10 + (i + 1) % 5);
+        }
+        g.addVertex(20);
+        SpecialClasses special = new SpecialClasses(g, 0);
+        assertEquals(ComponentClass.PATHS_AND_CYCLES, special.type);
+        assertEquals(3 + 3, special.solve());
+    }
+
+    @Test
+    void forest() {
+        for (long seed = 0; seed < 20; seed++) {
+            Random r = new Random(seed);
+            Graph g = new Graph();
+            for (int v = 1; v < 60; v++) {
+                if (r.nextInt(10) > 0) {
+                    g.addEdge(v, r.nextInt(v));
+                }
+            }
+            SpecialClasses special = new SpecialClasses(g, 0);
+            assertEquals(ComponentClass.FOREST, special.type);
+            assertEquals(search(g), special.solve());
+        }
+    }
+
+    @Test
+    void bipartite() {
+        for (long seed = 0; seed < 20; seed++) {
+            Random r = new Random(seed);
+            Graph g = new Graph();
+            for (int i = 0; i < 120; i++) {
+                g.addEdge(r.nextInt(30), 100 + r.nextInt(30));
+            }
+            SpecialClasses special = new SpecialClasses(g, 0);
+            assertEquals(ComponentClass.BIPARTITE, special.type);
+            assertEquals(search(g), special.solve());
+        }
+    }
+
+    @Test
+    void general() {
+        Graph g = new Graph();
+        for (int i = 0; i < 3; i++) {
+            g.addEdge(i, (i + 1) % 3);
+            g.addEdge(i, 10 + i);
+        }
+        g.addEdge(10, 11);
+        SpecialClasses special = new SpecialClasses(g, 0);
+        assertEquals(ComponentClass.GENERAL, special.type);
+        assertEquals(-1, special.solve());
+    }
+
+    @Test
+    void hits() {
+        SolverOptions options = new SolverOptions();
+        options.stats = new SearchStats();
+        Graph g = new Graph();
+        for (int i = 0; i < 8; i++) {
+            g.addEdge(i, (i + 1) % 8);
+        }
+        assertEquals(4, SearchTree.findK(g, options, null));
+        assertEquals(1, options.stats.getHits(ComponentClass.PATHS_AND_CYCLES));
+        assertEquals(0, options.stats.getHits(ComponentClass.GENERAL));
+    }
+}
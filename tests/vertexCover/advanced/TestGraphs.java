@@ -0,0 +1,39 @@
+package vertexCover.advanced;
+
+import core.Graph;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The graphs and checks that the tests of this package share
+ */
+class TestGraphs {
+
+    /**
+     * @return A graph with "edges" random edges between the IDs 0 to "vertices" - 1, loops and duplicates are left out
+     */
+    static Graph random(long seed, int vertices, int edges) {
+        Random r = new Random(seed);
+        Graph g = new Graph();
+        for (int i = 0; i < edges; i++) {
+            g.addEdge(r.nextInt(vertices), r.nextInt(vertices));
+        }
+        return g;
+    }
+
+    /**
+     * Fails if "cover" has a vertex twice or one that isn't in "g", or if it misses an edge of "g"
+     */
+    static void assertCover(Graph g, int[] cover) {
+        Set<Integer> taken = new HashSet<>();
+        for (int v : cover) {
+            assertTrue(g.contains(v));
+            assertTrue(taken.add(v));
+        }
+        g.forEachVertex(v -> g.forEachNeighbour(v, w -> assertTrue(taken.contains(v) || taken.contains(w))));
+    }
+}
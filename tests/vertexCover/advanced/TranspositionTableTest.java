@@ -0,0 +1,99 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    /**
+     * Only the iterative search on the graph, where the table is used
+     */
+    private static SolverOptions graphSearch() {
+        SolverOptions options = new SolverOptions();
+        options.bitSetSize = 0;
+        options.specialClasses = false;
+        options.transpositionTable = new TranspositionTable(1 << 16);
+        return options;
+    }
+
+    @Test
+    void probeAndStore() {
+        TranspositionTable table = new TranspositionTable(1024);
+        assertEquals(0, table.probe(42, 5));
+        table.store(42, 5, false, 3);
+        assertEquals(-1, table.probe(42, 5));
+        assertEquals(-1, table.probe(42, 3));
+        assertEquals(0, table.probe(42, 6));
+        table.store(42, 8, true, 3);
+        assertEquals(1, table.probe(42, 8));
+        assertEquals(1, table.probe(42, 9));
+        assertEquals(0, table.probe(42, 7));
+        assertEquals(-1, table.probe(42, 5));       //both bounds are kept
+        assertEquals(0, table.probe(43, 5));
+        assertEquals(5, table.getHits());
+
+        table.clear();
+        assertEquals(0, table.probe(42, 5));
+        assertEquals(0, table.getHits());
+    }
+
+    @Test
+    void replacement() {
+        TranspositionTable table = new TranspositionTable(2);     //one bucket
+        table.store(1, 5, false, 1);
+        table.store(2, 5, false, 7);
+        table.store(3, 5, false, 4);    //replaces the deeper one
+        assertEquals(-1, table.probe(1, 0));
+        assertEquals(0, table.probe(2, 0));
+        assertEquals(-1, table.probe(3, 0));
+
+        table.nextAge();
+        table.store(4, 5, false, 9);    //both are of the last try, the deeper one goes
+        assertEquals(-1, table.probe(1, 0));
+        assertEquals(0, table.probe(3, 0));
+        table.store(5, 5, false, 9);    //the one of the last try goes, even though it is shallower
+        assertEquals(0, table.probe(1, 0));
+        assertEquals(-1, table.probe(4, 0));
+        assertEquals(-1, table.probe(5, 0));
+    }
+
+    @Test
+    void sameK() {
+        for (long seed = 0; seed < 10; seed++) {
+            Graph g = TestGraphs.random(seed, 100, 250);
+            SolverOptions options = graphSearch();
+            int k = SearchTree.minVertexCover(g.copy());
+            assertEquals(k, SearchTree.minVertexCover(g.copy(), options));
+            assertTrue(options.transpositionTable.getProbes() > 0);
+            //the second time every try is answered by the table
+            long hits = options.transpositionTable.getHits();
+            assertEquals(k, SearchTree.minVertexCover(g.copy(), options));
+            assertTrue(options.transpositionTable.getHits() > hits);
+        }
+    }
+
+    @Test
+    void parallel() {
+        SolverOptions options = graphSearch();
+        options.parallelism = 4;
+        options.minForkSize = 8;
+        for (long seed = 0; seed < 5; seed++) {
+            Graph g = TestGraphs.random(seed, 100, 250);
+            assertEquals(SearchTree.minVertexCover(g.copy()), SearchTree.minVertexCover(g, options));
+        }
+    }
+
+    @Test
+    void cancelled() {
+        Graph g = TestGraphs.random(1, 100, 250);
+        int k = SearchTree.minVertexCover(g.copy());
+        SolverOptions options = graphSearch();
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        SearchTree.solve(g, options, token);
+        //nothing the cancelled search stored may be wrong
+        assertEquals(k, SearchTree.minVertexCover(g, options));
+    }
+}
@@ -0,0 +1,92 @@
+package vertexCover.advanced;
+
+import core.Graph;
+import core.IndexedGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreeDecompositionTest {
+
+    /**
+     * A grid with some diagonals, so it isn't bipartite
+     */
+    private static Graph grid(long seed, int rows, int columns) {
+        Random r = new Random(seed);
+        Graph g = new Graph();
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                int v = i * columns + j;
+                if (j + 1 < columns && r.nextInt(10) > 0)
+                    g.addEdge(v, v + 1);
+                if (i + 1 < rows && r.nextInt(10) > 0)
+                    g.addEdge(v, v + columns);
+                if (i + 1 < rows && j + 1 < columns && r.nextInt(3) == 0)
+                    g.addEdge(v, v + columns + 1);
+            }
+        }
+        return g;
+    }
+
+    private static int search(Graph g) {
+        SolverOptions options = new SolverOptions();
+        options.specialClasses = false;
+        return SearchTree.findK(g.copy(), options, null);
+    }
+
+    @Test
+    void clique() {
+        Graph g = new Graph();
+        for (int a = 0; a < 6; a++) {
+            for (int b = a + 1; b < 6; b++) {
+                g.addEdge(a, b);
+            }
+        }
+        IndexedGraph indexed = new IndexedGraph(g);
+        assertNull(TreeDecomposition.of(indexed, 4));
+        TreeDecomposition decomposition = TreeDecomposition.of(indexed, 5);
+        assertEquals(5, decomposition.width);
+        assertEquals(5, decomposition.solve());
+    }
+
+    @Test
+    void grids() {
+        for (long seed = 0; seed < 10; seed++) {
+            Graph g = grid(seed, 4, 12);
+            TreeDecomposition decomposition = TreeDecomposition.of(new IndexedGraph(g), 14);
+            assertNotNull(decomposition);
+            assertEquals(search(g), decomposition.solve());
+        }
+    }
+
+    @Test
+    void sparse() {
+        for (long seed = 0; seed < 20; seed++) {
+            Random r = new Random(seed);
+            Graph g = new Graph();
+            for (int i = 0; i < 70; i++) {
+                g.addEdge(r.nextInt(50), r.nextInt(50));
+            }
+            TreeDecomposition decomposition = TreeDecomposition.of(new IndexedGraph(g), 14);
+            if (decomposition != null) {
+                assertEquals(search(g), decomposition.solve());
+            }
+        }
+    }
+
+    @Test
+    void dispatcher() {
+        SolverOptions options = new SolverOptions();
+        options.stats = new SearchStats();
+        Graph g = grid(3, 4, 12);
+        int expected = search(g);
+        assertEquals(expected, SearchTree.findK(g, options, null));
+        assertEquals(1, options.stats.getHits(ComponentClass.LOW_TREEWIDTH));
+
+        options.maxTreeWidth = 0;
+        assertEquals(expected, SearchTree.findK(g, options, null));
+        assertEquals(1, options.stats.getHits(ComponentClass.GENERAL));
+    }
+}
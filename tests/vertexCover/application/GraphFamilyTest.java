@@ -0,0 +1,92 @@
+package vertexCover.application;
+
+import core.Graph;
+import org.junit.jupiter.api.Test;
+import vertexCover.advanced.SearchTree;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphFamilyTest {
+
+    @Test
+    void plantedOptimum() {
+        for (long seed = 0; seed < 5; seed++) {
+            GraphFamily family = GraphFamily.planted(400, 60, 1200, seed);
+            assertEquals(60, SearchTree.minVertexCover(family.toGraph()));
+        }
+    }
+
+    @Test
+    void sameSeedSameGraph() {
+        GraphFamily a = GraphFamily.powerLaw(1000, 3, 7);
+        GraphFamily b = GraphFamily.powerLaw(1000, 3, 7);
+        GraphFamily c = GraphFamily.powerLaw(1000, 3, 8);
+        boolean different = false;
+        for (long e = 0; e < a.edgeCount(); e++) {
+            assertEquals(a.edge(e), b.edge(e));
+            different |= a.edge(e) != c.edge(e);
+        }
+        assertTrue(different);
+    }
+
+    @Test
+    void powerLaw() {
+        Graph g = GraphFamily.powerLaw(2000, 2, 0).toGraph();
+        assertEquals(2000, g.size());
+        assertTrue(g.isConnected());    //every vertex has an edge to an older one
+        assertTrue(g.getMaxDegree() > 50);     //hubs
+    }
+
+    @Test
+    void grid() {
+        Graph full = GraphFamily.grid(10, 20, 1, 0).toGraph();
+        assertEquals(200, full.size());
+        assertEquals(9 * 20 + 10 * 19, full.getEdgeCount());
+        assertEquals(4, full.getMaxDegree());
+        Graph roads = GraphFamily.grid(10, 20, 0.5, 0).toGraph();
+        assertTrue(roads.getEdgeCount() < full.getEdgeCount());
+    }
+
+    @Test
+    void files() throws IOException, InterruptedException {
+        GraphFamily family = GraphFamily.random(3000, 10_000, 1);
+        Path text = Files.createTempFile("graph", ".txt");
+        Path binary = Files.createTempFile("graph", ".bin");
+        Path parallel = Files.createTempFile("graph", ".txt");
+        try {
+            assertEquals(10_000, Generator.write(family, text, false, 1));
+            Generator.write(family, binary, true, 1);
+            Generator.write(family, parallel, false, 4);
+            //the same file for every number of threads
+            assertArrayEquals(Files.readAllBytes(text), Files.readAllBytes(parallel));
+
+            Graph fromText = new Graph(text.toFile());
+            Graph fromBinary = new Graph(binary.toFile());
+            Graph inMemory = family.toGraph();
+            assertEquals(inMemory.getEdgeCount(), fromText.getEdgeCount());
+            assertEquals(inMemory.getEdgeCount(), fromBinary.getEdgeCount());
+            assertEquals(inMemory.getVertices(), fromBinary.getVertices());
+        } finally {
+            Files.delete(text);
+            Files.delete(binary);
+            Files.delete(parallel);
+        }
+    }
+
+    @Test
+    void plantedTextHasK() throws IOException, InterruptedException {
+        File file = File.createTempFile("planted", ".txt");
+        try {
+            Generator.write(GraphFamily.planted(100, 20, 300, 0), file.toPath(), false, 2);
+            assertTrue(Files.readAllLines(file.toPath()).get(0).contains("K = 20"));
+            assertEquals(20, SearchTree.minVertexCover(new Graph(file)));
+        } finally {
+            file.delete();
+        }
+    }
+}